@@ -55,6 +55,40 @@ Java_org_duckdb_DuckDBBindings_duckdb_1vector_1get_1string__Ljava_nio_ByteBuffer
 	return Java_org_duckdb_DuckDBBindings_duckdb_1vector_1get_1string(env, clazz, vector_data, row);
 }
 
+/*
+ * Class:     org_duckdb_DuckDBBindings
+ * Method:    duckdb_vector_get_string_buffer
+ * Signature: (Ljava/nio/ByteBuffer;J)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_org_duckdb_DuckDBBindings_duckdb_1vector_1get_1string_1buffer(JNIEnv *env, jclass,
+                                                                                            jobject vector_data,
+                                                                                            jlong row) {
+
+	if (vector_data == nullptr) {
+		env->ThrowNew(J_SQLException, "Invalid vector data buffer");
+		return nullptr;
+	}
+	auto data = reinterpret_cast<duckdb_string_t *>(env->GetDirectBufferAddress(vector_data));
+	if (data == nullptr) {
+		env->ThrowNew(J_SQLException, "Invalid vector data");
+		return nullptr;
+	}
+	idx_t row_idx = jlong_to_idx(env, row);
+	if (env->ExceptionCheck()) {
+		return nullptr;
+	}
+	// the view is not copied, an out of bounds row would expose arbitrary memory
+	jlong capacity = env->GetDirectBufferCapacity(vector_data);
+	if (capacity < 0 || row_idx >= static_cast<idx_t>(capacity) / sizeof(duckdb_string_t)) {
+		env->ThrowNew(J_SQLException, "Invalid vector row index");
+		return nullptr;
+	}
+	auto &string_value = data[row_idx];
+	auto string_len = duckdb_string_t_length(string_value);
+	auto string_ptr = duckdb_string_t_data(&string_value);
+	return env->NewDirectByteBuffer(const_cast<char *>(string_ptr), static_cast<jlong>(string_len));
+}
+
 /*
  * Class:     org_duckdb_DuckDBBindings
  * Method:    duckdb_create_vector
@@ -215,8 +249,9 @@ JNIEXPORT void JNICALL Java_org_duckdb_DuckDBBindings_duckdb_1vector_1assign_1st
  * Batch variant of duckdb_vector_assign_string_element_len: assigns count
  * concatenated UTF-8 strings starting at row index, in a single JNI call.
  * lengths[i] >= 0 marks the byte length of element i, a negative length marks
- * a NULL element. The complete payload is validated once before the loop uses
- * the unsafe assignment primitive for each valid element.
+ * a NULL element. The complete payload of a VARCHAR vector is validated as
+ * UTF-8 once before the loop uses the unsafe assignment primitive for each
+ * valid element, BLOB payloads are assigned as they are.
  */
 JNIEXPORT void JNICALL Java_org_duckdb_DuckDBBindings_duckdb_1vector_1assign_1string_1elements(
     JNIEnv *env, jclass, jobject vector, jlong index, jbyteArray data, jlongArray lengths, jint data_length) {
@@ -260,12 +295,17 @@ JNIEXPORT void JNICALL Java_org_duckdb_DuckDBBindings_duckdb_1vector_1assign_1st
 		env->ThrowNew(J_SQLException, "String batch length does not match payload");
 		return;
 	}
-	auto error = duckdb_valid_utf8_check(payload.get(), static_cast<idx_t>(payload_length));
-	if (error != nullptr) {
-		duckdb_destroy_error_data(&error);
-		env->ReleaseLongArrayElements(lengths, lens, JNI_ABORT);
-		env->ThrowNew(J_SQLException, "Invalid UTF-8 string batch");
-		return;
+	duckdb_logical_type vec_type = duckdb_vector_get_column_type(vec);
+	bool is_varchar = duckdb_get_type_id(vec_type) == DUCKDB_TYPE_VARCHAR;
+	duckdb_destroy_logical_type(&vec_type);
+	if (is_varchar) {
+		auto error = duckdb_valid_utf8_check(payload.get(), static_cast<idx_t>(payload_length));
+		if (error != nullptr) {
+			duckdb_destroy_error_data(&error);
+			env->ReleaseLongArrayElements(lengths, lens, JNI_ABORT);
+			env->ThrowNew(J_SQLException, "Invalid UTF-8 string batch");
+			return;
+		}
 	}
 	duckdb_vector_ensure_validity_writable(vec);
 	uint64_t *validity = duckdb_vector_get_validity(vec);
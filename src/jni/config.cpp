@@ -90,6 +90,14 @@ std::unique_ptr<duckdb::DBConfig> create_db_config(JNIEnv *env, jboolean read_on
 	    "jdbc_stream_results",
 	    "Whether to stream results. Only one ResultSet on a connection can be open at once when true",
 	    duckdb::LogicalType::BOOLEAN);
+	config->AddExtensionOption(
+	    "jdbc_lazy_strings",
+	    "Whether to decode VARCHAR values of a result set only when they are accessed instead of on fetch",
+	    duckdb::LogicalType::BOOLEAN);
+	config->AddExtensionOption("jdbc_direct_blobs",
+	                           "Whether BLOB values of a result set are returned as views over the result memory "
+	                           "instead of being copied on fetch",
+	                           duckdb::LogicalType::BOOLEAN);
 	if (read_only) {
 		config->options.access_mode = duckdb::AccessMode::READ_ONLY;
 	}
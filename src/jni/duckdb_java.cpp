@@ -7,7 +7,9 @@ extern "C" {
 #include "duckdb/common/arrow/result_arrow_wrapper.hpp"
 #include "duckdb/common/operator/cast_operators.hpp"
 #include "duckdb/common/shared_ptr.hpp"
+#include "duckdb/common/types/type_map.hpp"
 #include "duckdb/common/vector/array_vector.hpp"
+#include "duckdb/common/vector/dictionary_vector.hpp"
 #include "duckdb/common/vector/list_vector.hpp"
 #include "duckdb/common/vector/struct_vector.hpp"
 #include "duckdb/function/scalar/variant_utils.hpp"
@@ -387,6 +389,12 @@ void _duckdb_jdbc_free_result(JNIEnv *env, jclass, jobject res_ref_buf) {
 	}
 	auto res_ref = reinterpret_cast<ResultHolder *>(env->GetDirectBufferAddress(res_ref_buf));
 	if (res_ref) {
+		for (jobject type_ref : res_ref->vector_types) {
+			env->DeleteGlobalRef(type_ref);
+		}
+		for (auto &entry : res_ref->string_dictionaries) {
+			env->DeleteGlobalRef(entry.second);
+		}
 		delete res_ref;
 	}
 }
@@ -487,9 +495,46 @@ jobject _duckdb_jdbc_prepared_statement_meta(JNIEnv *env, jclass, jobject stmt_r
 	                  stmt->GetStatementProperties(), param_types);
 }
 
-jobject ProcessVector(JNIEnv *env, Connection *conn_ref, Vector &vec, idx_t row_count);
+// Per-result state reused across chunks: the resolved vector types in pre-order of the vector
+// tree (the layout of the vectors is the same for every chunk so the types are only created for
+// the first one), the decoded dictionaries of dictionary-encoded VARCHAR vectors by id and the
+// vectors created for the current chunk.
+struct FetchCache {
+	duckdb::vector<jobject> &types;
+	duckdb::unordered_map<string, jobject> &string_dictionaries;
+	duckdb::vector<duckdb::unique_ptr<Vector>> &vectors;
+	idx_t next_type_idx = 0;
+
+	explicit FetchCache(ResultHolder &res_ref)
+	    : types(res_ref.vector_types), string_dictionaries(res_ref.string_dictionaries),
+	      vectors(res_ref.fetched_vectors) {
+	}
+};
+
+jobject ProcessVector(JNIEnv *env, Connection *conn_ref, Vector &vec, idx_t row_count, bool lazy_strings,
+                      bool direct_blobs, FetchCache *fetch_cache);
 
-jobjectArray _duckdb_jdbc_fetch(JNIEnv *env, jclass, jobject res_ref_buf, jobject conn_ref_buf) {
+// Creates the Java vectors for the current chunk of the result
+static jobjectArray process_chunk(JNIEnv *env, Connection *conn_ref, ResultHolder &res_ref, bool lazy_strings,
+                                  bool direct_blobs) {
+	auto row_count = res_ref.chunk->size();
+	jobjectArray vec_array =
+	    reinterpret_cast<jobjectArray>(env->NewObjectArray(res_ref.chunk->ColumnCount(), J_DuckVector, nullptr));
+
+	FetchCache fetch_cache(res_ref);
+	for (idx_t col_idx = 0; col_idx < res_ref.chunk->ColumnCount(); col_idx++) {
+		auto &vec = res_ref.chunk->data[col_idx];
+
+		jobject jvec = ProcessVector(env, conn_ref, vec, row_count, lazy_strings, direct_blobs, &fetch_cache);
+
+		env->SetObjectArrayElement(vec_array, col_idx, jvec);
+		env->DeleteLocalRef(jvec);
+	}
+
+	return vec_array;
+}
+
+jobjectArray _duckdb_jdbc_fetch(JNIEnv *env, jclass, jobject res_ref_buf, jobject conn_ref_buf, jint fetch_size) {
 	auto res_ref = reinterpret_cast<ResultHolder *>(env->GetDirectBufferAddress(res_ref_buf));
 	if (!res_ref || !res_ref->res || res_ref->res->HasError()) {
 		throw InvalidInputException("Invalid result set");
@@ -500,24 +545,141 @@ jobjectArray _duckdb_jdbc_fetch(JNIEnv *env, jclass, jobject res_ref_buf, jobjec
 		return nullptr;
 	}
 
+	Value result;
+	bool lazy_strings =
+	    conn_ref->context->TryGetCurrentSetting("jdbc_lazy_strings", result) ? result.GetValue<bool>() : false;
+	bool direct_blobs =
+	    conn_ref->context->TryGetCurrentSetting("jdbc_direct_blobs", result) ? result.GetValue<bool>() : false;
+
+	res_ref->fetched_vectors.clear();
 	res_ref->chunk = res_ref->res->Fetch();
 	if (!res_ref->chunk) {
 		res_ref->chunk = make_uniq<DataChunk>();
 	}
-	auto row_count = res_ref->chunk->size();
-	jobjectArray vec_array =
-	    reinterpret_cast<jobjectArray>(env->NewObjectArray(res_ref->chunk->ColumnCount(), J_DuckVector, nullptr));
+	auto fetch_size_idx = static_cast<idx_t>(fetch_size > 0 ? fetch_size : 0);
+	if (res_ref->chunk->size() > 0 && res_ref->chunk->size() < fetch_size_idx) {
+		// Concatenate the following chunks to return at least fetch_size rows (or all remaining rows)
+		// in a single call, the last appended chunk can make the result larger than fetch_size.
+		// fetch_size is only a hint and is not allocated up front, the combined chunk grows with the
+		// appended rows.
+		auto combined = make_uniq<DataChunk>();
+		combined->Initialize(*conn_ref->context, res_ref->chunk->GetTypes(), STANDARD_VECTOR_SIZE);
+		combined->Append(*res_ref->chunk, VectorAppendMode::ALLOW_RESIZE);
+		res_ref->chunk.reset();
+		while (combined->size() < fetch_size_idx) {
+			auto next = res_ref->res->Fetch();
+			if (!next || next->size() == 0) {
+				break;
+			}
+			combined->Append(*next, VectorAppendMode::ALLOW_RESIZE);
+		}
+		res_ref->chunk = std::move(combined);
+	}
+	return process_chunk(env, conn_ref, *res_ref, lazy_strings, direct_blobs);
+}
 
-	for (idx_t col_idx = 0; col_idx < res_ref->chunk->ColumnCount(); col_idx++) {
-		auto &vec = res_ref->chunk->data[col_idx];
+// Random access to the chunks of a materialized result for scrollable result sets, the chunks stay in
+// the result collection that DuckDB can offload to its temporary storage. Returns null for streaming
+// results and an empty array past the last chunk.
+jobjectArray _duckdb_jdbc_fetch_chunk_at(JNIEnv *env, jclass, jobject res_ref_buf, jobject conn_ref_buf,
+                                         jlong chunk_idx) {
+	auto res_ref = reinterpret_cast<ResultHolder *>(env->GetDirectBufferAddress(res_ref_buf));
+	if (!res_ref || !res_ref->res || res_ref->res->HasError()) {
+		throw InvalidInputException("Invalid result set");
+	}
+	if (res_ref->res->GetResultType() != QueryResultType::MATERIALIZED_RESULT) {
+		return nullptr;
+	}
 
-		jobject jvec = ProcessVector(env, conn_ref, vec, row_count);
+	auto conn_ref = get_connection(env, conn_ref_buf);
+	if (conn_ref == nullptr) {
+		return nullptr;
+	}
 
-		env->SetObjectArrayElement(vec_array, col_idx, jvec);
-		env->DeleteLocalRef(jvec);
+	auto &collection = res_ref->res->Cast<MaterializedQueryResult>().Collection();
+	res_ref->fetched_vectors.clear();
+	res_ref->chunk = make_uniq<DataChunk>();
+	auto chunk_idx_idx = jlong_to_idx(env, chunk_idx);
+	if (env->ExceptionCheck()) {
+		return nullptr;
+	}
+	if (chunk_idx_idx < collection.ChunkCount()) {
+		collection.InitializeScanChunk(*res_ref->chunk);
+		collection.FetchChunk(chunk_idx_idx, *res_ref->chunk);
 	}
+	// scrollable result sets copy the chunks to the heap right away, lazy decoding would not save anything
+	return process_chunk(env, conn_ref, *res_ref, false, false);
+}
 
-	return vec_array;
+static jlongArray make_validity_array(JNIEnv *env, const ValidityMask &validity, idx_t count) {
+	// copy the validity mask (64 rows per entry), it is left null when there are no NULLs in the vector
+	if (validity.CheckAllValid(count)) {
+		return nullptr;
+	}
+	auto entry_count = static_cast<jsize>(ValidityMask::EntryCount(count));
+	auto validity_array = env->NewLongArray(entry_count);
+	env->SetLongArrayRegion(validity_array, 0, entry_count, reinterpret_cast<const jlong *>(validity.GetData()));
+	return validity_array;
+}
+
+// Decodes count UTF-8 strings into a String[] with a single upcall instead of one upcall per string:
+// the bytes are copied into one byte[] with the start offset of every string and decoded in Java.
+// get_string returns false for NULL entries.
+template <class GET_STRING>
+static jobjectArray decode_strings(JNIEnv *env, idx_t count, GET_STRING &&get_string) {
+	duckdb::vector<string_t> strings(count);
+	ValidityMask validity(count);
+	idx_t total_size = 0;
+	for (idx_t idx = 0; idx < count; idx++) {
+		if (!get_string(idx, strings[idx])) {
+			validity.SetInvalid(idx);
+			continue;
+		}
+		total_size += strings[idx].GetSize();
+	}
+	if (total_size > static_cast<idx_t>(std::numeric_limits<jint>::max())) {
+		// does not fit into a single Java array
+		auto j_strings = env->NewObjectArray(count, J_String, nullptr);
+		for (idx_t idx = 0; idx < count; idx++) {
+			if (!validity.RowIsValid(idx)) {
+				continue;
+			}
+			auto j_str = decode_charbuffer_to_jstring(env, strings[idx].GetData(), strings[idx].GetSize());
+			env->SetObjectArrayElement(j_strings, idx, j_str);
+			env->DeleteLocalRef(j_str);
+		}
+		return j_strings;
+	}
+
+	duckdb::vector<jint> offsets(count + 1);
+	auto j_bytes = env->NewByteArray(static_cast<jsize>(total_size));
+	check_java_exception_and_rethrow(env);
+	auto bytes = reinterpret_cast<char *>(env->GetPrimitiveArrayCritical(j_bytes, nullptr));
+	jint offset = 0;
+	for (idx_t idx = 0; idx < count; idx++) {
+		offsets[idx] = offset;
+		if (!validity.RowIsValid(idx)) {
+			continue;
+		}
+		auto size = strings[idx].GetSize();
+		memcpy(bytes + offset, strings[idx].GetData(), size);
+		offset += static_cast<jint>(size);
+	}
+	offsets[count] = offset;
+	env->ReleasePrimitiveArrayCritical(j_bytes, bytes, 0);
+
+	auto j_offsets = env->NewIntArray(static_cast<jsize>(count + 1));
+	env->SetIntArrayRegion(j_offsets, 0, static_cast<jsize>(count + 1), offsets.data());
+	auto validity_array = make_validity_array(env, validity, count);
+	auto j_strings = reinterpret_cast<jobjectArray>(
+	    env->CallStaticObjectMethod(J_DuckVector, J_DuckVector_decodeStrings, j_bytes, j_offsets, validity_array));
+	check_java_exception_and_rethrow(env);
+	env->DeleteLocalRef(j_bytes);
+	env->DeleteLocalRef(j_offsets);
+	if (validity_array != nullptr) {
+		env->DeleteLocalRef(validity_array);
+	}
+	return j_strings;
 }
 
 jobjectArray _duckdb_jdbc_cast_result_to_strings(JNIEnv *env, jclass, jobject res_ref_buf, jobject conn_ref_buf,
@@ -538,21 +700,23 @@ jobjectArray _duckdb_jdbc_cast_result_to_strings(JNIEnv *env, jclass, jobject re
 
 	auto row_count = res_ref->chunk->size();
 	auto &complex_vec = res_ref->chunk->data[col_idx];
-	Vector vec(LogicalType::VARCHAR);
+	// chunks combined for the fetch size can hold more than STANDARD_VECTOR_SIZE rows
+	Vector vec(LogicalType::VARCHAR, MaxValue<idx_t>(row_count, STANDARD_VECTOR_SIZE));
 	VectorOperations::Cast(*conn_ref->context, complex_vec, vec, row_count);
 
-	jobjectArray string_data = env->NewObjectArray(row_count, J_String, nullptr);
-	for (idx_t row_idx = 0; row_idx < row_count; row_idx++) {
-		if (FlatVector::IsNull(vec, row_idx)) {
-			continue;
-		}
-		const string_t *vec_data = FlatVector::GetData<string_t>(vec);
-		auto d_str = vec_data[row_idx];
-		auto j_str = decode_charbuffer_to_jstring(env, d_str.GetData(), d_str.GetSize());
-		env->SetObjectArrayElement(string_data, row_idx, j_str);
-	}
+	// constant and dictionary vectors of the chunk are not flattened when they are fetched
+	UnifiedVectorFormat format;
+	vec.ToUnifiedFormat(format);
+	auto vec_data = format.GetData<string_t>();
 
-	return string_data;
+	return decode_strings(env, row_count, [&](idx_t row_idx, string_t &str) {
+		auto idx = format.sel->get_index(row_idx);
+		if (!format.validity.RowIsValid(idx)) {
+			return false;
+		}
+		str = vec_data[idx];
+		return true;
+	});
 }
 
 template <typename T>
@@ -562,23 +726,203 @@ static jobject make_vec_data_buf(JNIEnv *env, Vector &vec, idx_t row_count) {
 	return make_data_buf(env, vec_data, len);
 }
 
-jobject ProcessVector(JNIEnv *env, Connection *conn_ref, Vector &vec, idx_t row_count) {
+static jobjectArray decode_enum_dictionary(JNIEnv *env, const LogicalType &type) {
+	return decode_strings(env, EnumType::GetSize(type), [&](idx_t pos, string_t &str) {
+		str = EnumType::GetString(type, pos);
+		return true;
+	});
+}
+
+static jobject resolve_vector_type(JNIEnv *env, const LogicalType &type, FetchCache *fetch_cache) {
+	if (fetch_cache != nullptr && fetch_cache->next_type_idx < fetch_cache->types.size()) {
+		return env->NewLocalRef(fetch_cache->types[fetch_cache->next_type_idx++]);
+	}
+	jstring type_str = env->NewStringUTF(type_to_jduckdb_type(type).c_str());
+	jstring struct_type_name = nullptr;
+	jobjectArray struct_keys = nullptr;
+	if (type.id() == LogicalTypeId::STRUCT || type.id() == LogicalTypeId::UNION) {
+		struct_type_name = env->NewStringUTF(type.ToString().c_str());
+		auto child_count = StructType::GetChildCount(type);
+		struct_keys = env->NewObjectArray(child_count, J_String, nullptr);
+		for (idx_t child_idx = 0; child_idx < child_count; child_idx++) {
+			jstring jstr = env->NewStringUTF(StructType::GetChildName(type, child_idx).c_str());
+			env->SetObjectArrayElement(struct_keys, child_idx, jstr);
+			env->DeleteLocalRef(jstr);
+		}
+	}
+	jobjectArray enum_dictionary = nullptr;
+	jint enum_index_width = 0;
+	if (type.id() == LogicalTypeId::ENUM) {
+		enum_dictionary = decode_enum_dictionary(env, type);
+		enum_index_width = static_cast<jint>(GetTypeIdSize(type.InternalType()));
+	}
+	jobject resolved_type = env->NewObject(J_DuckVectorResolvedType, J_DuckVectorResolvedType_init, type_str,
+	                                       struct_type_name, struct_keys, enum_dictionary, enum_index_width);
+	env->DeleteLocalRef(type_str);
+	if (struct_type_name != nullptr) {
+		env->DeleteLocalRef(struct_type_name);
+		env->DeleteLocalRef(struct_keys);
+	}
+	if (enum_dictionary != nullptr) {
+		env->DeleteLocalRef(enum_dictionary);
+	}
+	check_java_exception_and_rethrow(env);
+	if (fetch_cache != nullptr) {
+		fetch_cache->types.push_back(env->NewGlobalRef(resolved_type));
+		fetch_cache->next_type_idx++;
+	}
+	return resolved_type;
+}
+
+// Results keep at most this many decoded VARCHAR dictionaries, the cache is reset when it is full
+static constexpr idx_t MAX_CACHED_STRING_DICTIONARIES = 64;
+
+static jobjectArray decode_string_dictionary(JNIEnv *env, const Vector &dictionary, idx_t dictionary_size) {
+	UnifiedVectorFormat format;
+	dictionary.ToUnifiedFormat(format);
+	auto data = format.GetData<string_t>();
+	return decode_strings(env, dictionary_size, [&](idx_t dict_idx, string_t &str) {
+		auto idx = format.sel->get_index(dict_idx);
+		if (!format.validity.RowIsValid(idx)) {
+			return false;
+		}
+		str = data[idx];
+		return true;
+	});
+}
+
+// Dictionary-encoded VARCHAR dictionaries are decoded directly into a String[], so that all rows
+// referencing an entry share one String. Dictionaries that carry an id are decoded once per result.
+static jobject ProcessStringDictionary(JNIEnv *env, const Vector &dictionary, idx_t dictionary_size,
+                                       const string &dictionary_id, idx_t length, jobject resolved_type,
+                                       FetchCache *fetch_cache) {
+	jobjectArray j_dictionary = nullptr;
+	bool cacheable = !dictionary_id.empty();
+	if (cacheable) {
+		auto entry = fetch_cache->string_dictionaries.find(dictionary_id);
+		if (entry != fetch_cache->string_dictionaries.end() &&
+		    static_cast<idx_t>(env->GetArrayLength(reinterpret_cast<jobjectArray>(entry->second))) ==
+		        dictionary_size) {
+			j_dictionary = reinterpret_cast<jobjectArray>(env->NewLocalRef(entry->second));
+		}
+	}
+	if (j_dictionary == nullptr) {
+		j_dictionary = decode_string_dictionary(env, dictionary, dictionary_size);
+		if (cacheable) {
+			auto &dictionaries = fetch_cache->string_dictionaries;
+			if (dictionaries.size() >= MAX_CACHED_STRING_DICTIONARIES) {
+				for (auto &entry : dictionaries) {
+					env->DeleteGlobalRef(entry.second);
+				}
+				dictionaries.clear();
+			}
+			auto entry = dictionaries.find(dictionary_id);
+			if (entry != dictionaries.end()) {
+				env->DeleteGlobalRef(entry->second);
+			}
+			dictionaries[dictionary_id] = env->NewGlobalRef(j_dictionary);
+		}
+	}
+
+	UnifiedVectorFormat format;
+	dictionary.ToUnifiedFormat(format);
+	ValidityMask validity(dictionary_size);
+	for (idx_t dict_idx = 0; dict_idx < dictionary_size; dict_idx++) {
+		if (!format.validity.RowIsValid(format.sel->get_index(dict_idx))) {
+			validity.SetInvalid(dict_idx);
+		}
+	}
+	auto validity_array = make_validity_array(env, validity, dictionary_size);
+
+	jobject jvec =
+	    env->NewObject(J_DuckVector, J_DuckVector_init, resolved_type, static_cast<int>(length), validity_array);
+	env->SetObjectField(jvec, J_DuckVector_varlen, j_dictionary);
+
+	if (validity_array != nullptr) {
+		env->DeleteLocalRef(validity_array);
+	}
+	env->DeleteLocalRef(j_dictionary);
+	return jvec;
+}
+
+// Dictionaries are only transferred when they are not larger than the vector itself
+static bool is_transferable_dictionary(const Vector &vec, idx_t row_count) {
+	if (vec.GetVectorType() != VectorType::DICTIONARY_VECTOR) {
+		return false;
+	}
+	auto dictionary_size = DictionaryVector::DictionarySize(vec);
+	return dictionary_size.IsValid() && dictionary_size.GetIndex() <= row_count;
+}
+
+static jobject ProcessVectorData(JNIEnv *env, Connection *conn_ref, Vector &vec, idx_t row_count, idx_t length,
+                                 bool lazy_strings, bool direct_blobs, FetchCache *fetch_cache,
+                                 jobject resolved_type);
+
+// Lazy strings and direct blobs are only enabled for the top-level vectors of a chunk, these vectors are not
+// reachable from Java after the result set moves to the next chunk. Nested vectors may point into the chunk
+// memory as well, STRUCT, LIST and ARRAY values are views over them; once a view was created the vectors of
+// the chunk are retained (copied to the Java heap) before the chunk is released.
+// Children are processed with the same fetch cache, VARIANT values can have a different type
+// in every row and their per-type groups are processed without it.
+//
+// CONSTANT and DICTIONARY vectors are not flattened, only the constant value or the dictionary
+// is transferred together with a flag or a selection that maps the rows to the stored entries.
+// The vectors that back the transferred data are kept alive until the next chunk is fetched.
+jobject ProcessVector(JNIEnv *env, Connection *conn_ref, Vector &vec, idx_t row_count, bool lazy_strings,
+                      bool direct_blobs, FetchCache *fetch_cache) {
+	jobject resolved_type = resolve_vector_type(env, vec.GetType(), fetch_cache);
+	jobject jvec = nullptr;
+	if (fetch_cache != nullptr && row_count > 1 && vec.GetVectorType() == VectorType::CONSTANT_VECTOR) {
+		auto constant_vec = make_uniq<Vector>(vec.GetType(), static_cast<idx_t>(1));
+		VectorOperations::Copy(vec, *constant_vec, 1, 0, 0);
+		jvec = ProcessVectorData(env, conn_ref, *constant_vec, 1, row_count, false, false, fetch_cache, resolved_type);
+		fetch_cache->vectors.push_back(std::move(constant_vec));
+		env->SetBooleanField(jvec, J_DuckVector_constant, JNI_TRUE);
+	} else if (fetch_cache != nullptr && is_transferable_dictionary(vec, row_count)) {
+		auto &dictionary = DictionaryVector::Child(vec);
+		auto dictionary_size = DictionaryVector::DictionarySize(vec).GetIndex();
+		if (vec.GetType().id() == LogicalTypeId::VARCHAR) {
+			jvec = ProcessStringDictionary(env, dictionary, dictionary_size, DictionaryVector::DictionaryId(vec),
+			                               row_count, resolved_type, fetch_cache);
+		} else {
+			// processing can flatten or cast the vector, the shared dictionary must not be modified
+			auto dictionary_vec = make_uniq<Vector>(Vector::Ref(dictionary));
+			jvec = ProcessVectorData(env, conn_ref, *dictionary_vec, dictionary_size, row_count, false, false,
+			                         fetch_cache, resolved_type);
+			fetch_cache->vectors.push_back(std::move(dictionary_vec));
+		}
+		auto &sel = DictionaryVector::SelVector(vec);
+		duckdb::vector<jint> selection(row_count);
+		for (idx_t row_idx = 0; row_idx < row_count; row_idx++) {
+			selection[row_idx] = static_cast<jint>(sel.get_index(row_idx));
+		}
+		auto selection_array = env->NewIntArray(static_cast<jsize>(row_count));
+		env->SetIntArrayRegion(selection_array, 0, static_cast<jsize>(row_count), selection.data());
+		env->SetObjectField(jvec, J_DuckVector_selection, selection_array);
+		env->DeleteLocalRef(selection_array);
+	} else {
+		jvec = ProcessVectorData(env, conn_ref, vec, row_count, row_count, lazy_strings, direct_blobs, fetch_cache,
+		                         resolved_type);
+	}
+	env->DeleteLocalRef(resolved_type);
+	return jvec;
+}
+
+// Creates the Java vector with the given length from the first row_count entries of a vector
+static jobject ProcessVectorData(JNIEnv *env, Connection *conn_ref, Vector &vec, idx_t row_count, idx_t length,
+                                 bool lazy_strings, bool direct_blobs, FetchCache *fetch_cache,
+                                 jobject resolved_type) {
 	if (vec.GetVectorType() != VectorType::FLAT_VECTOR) {
 		vec.Flatten();
 	}
-	jstring type_str = env->NewStringUTF(type_to_jduckdb_type(vec.GetType()).c_str());
-	// construct nullmask
-	jbooleanArray null_array = env->NewBooleanArray(row_count);
-	jboolean *null_unique_array = env->GetBooleanArrayElements(null_array, nullptr);
-	for (idx_t row_idx = 0; row_idx < row_count; row_idx++) {
-		null_unique_array[row_idx] = FlatVector::IsNull(vec, row_idx);
-	}
-	env->ReleaseBooleanArrayElements(null_array, null_unique_array, 0);
+	jlongArray validity_array = make_validity_array(env, FlatVector::Validity(vec), row_count);
 
-	jobject jvec = env->NewObject(J_DuckVector, J_DuckVector_init, type_str, static_cast<int>(row_count), null_array);
+	jobject jvec =
+	    env->NewObject(J_DuckVector, J_DuckVector_init, resolved_type, static_cast<int>(length), validity_array);
 
 	jobject constlen_data = nullptr;
 	jobjectArray varlen_data = nullptr;
+	jobject lazy_string_data = nullptr;
 
 	switch (vec.GetType().id()) {
 	case LogicalTypeId::BOOLEAN:
@@ -661,47 +1005,45 @@ jobject ProcessVector(JNIEnv *env, Connection *conn_ref, Vector &vec, idx_t row_
 		constlen_data = make_vec_data_buf<timestamp_t>(env, vec, row_count);
 		break;
 	case LogicalTypeId::ENUM:
-		varlen_data = env->NewObjectArray(row_count, J_String, nullptr);
-		for (idx_t row_idx = 0; row_idx < row_count; row_idx++) {
-			if (FlatVector::IsNull(vec, row_idx)) {
-				continue;
-			}
-			auto dstr = vec.GetValue(row_idx).ToString();
-			jstring jstr = env->NewStringUTF(dstr.c_str());
-			env->SetObjectArrayElement(varlen_data, row_idx, jstr);
-			env->DeleteLocalRef(jstr);
+		// only the indexes are transferred, the dictionary is part of the resolved type
+		switch (vec.GetType().InternalType()) {
+		case PhysicalType::UINT8:
+			constlen_data = make_vec_data_buf<uint8_t>(env, vec, row_count);
+			break;
+		case PhysicalType::UINT16:
+			constlen_data = make_vec_data_buf<uint16_t>(env, vec, row_count);
+			break;
+		case PhysicalType::UINT32:
+			constlen_data = make_vec_data_buf<uint32_t>(env, vec, row_count);
+			break;
+		default:
+			throw InternalException("Unsupported ENUM internal type: %s", TypeIdToString(vec.GetType().InternalType()));
 		}
 		break;
 	case LogicalTypeId::UNION:
 	case LogicalTypeId::STRUCT: {
-		varlen_data = env->NewObjectArray(row_count, J_DuckStruct, nullptr);
-
+		// struct cells are created on access in Java as views over the child vectors,
+		// the child names and the type name are part of the resolved type
 		auto &entries = StructVector::GetEntries(vec);
 		auto columns = env->NewObjectArray(entries.size(), J_DuckVector, nullptr);
-		auto names = env->NewObjectArray(entries.size(), J_String, nullptr);
 
 		for (idx_t entry_i = 0; entry_i < entries.size(); entry_i++) {
-			jobject j_vec = ProcessVector(env, conn_ref, entries[entry_i], row_count);
+			jobject j_vec = ProcessVector(env, conn_ref, entries[entry_i], row_count, false, false, fetch_cache);
 			env->SetObjectArrayElement(columns, entry_i, j_vec);
 			env->DeleteLocalRef(j_vec);
-			jstring jstr = env->NewStringUTF(StructType::GetChildName(vec.GetType(), entry_i).c_str());
-			env->SetObjectArrayElement(names, entry_i, jstr);
-			env->DeleteLocalRef(jstr);
-		}
-		for (idx_t row_idx = 0; row_idx < row_count; row_idx++) {
-			jstring jstr = env->NewStringUTF(vec.GetType().ToString().c_str());
-			jobject jstruct = env->NewObject(J_DuckStruct, J_DuckStruct_init, names, columns, row_idx, jstr);
-			env->SetObjectArrayElement(varlen_data, row_idx, jstruct);
-			env->DeleteLocalRef(jstruct);
-			env->DeleteLocalRef(jstr);
 		}
-		env->DeleteLocalRef(names);
+		env->SetObjectField(jvec, J_DuckVector_structValues, columns);
 		env->DeleteLocalRef(columns);
 
 		break;
 	}
 	case LogicalTypeId::BLOB:
 	case LogicalTypeId::GEOMETRY:
+		if (direct_blobs) {
+			// blobs are returned as views over the string_t entries
+			lazy_string_data = make_vec_data_buf<string_t>(env, vec, row_count);
+			break;
+		}
 		varlen_data = env->NewObjectArray(row_count, J_ByteArray, nullptr);
 
 		for (idx_t row_idx = 0; row_idx < row_count; row_idx++) {
@@ -725,72 +1067,84 @@ jobject ProcessVector(JNIEnv *env, Connection *conn_ref, Vector &vec, idx_t row_
 		constlen_data = make_vec_data_buf<hugeint_t>(env, vec, row_count);
 		break;
 	case LogicalTypeId::ARRAY: {
-		varlen_data = env->NewObjectArray(row_count, J_DuckArray, nullptr);
+		// array cells are created on access in Java as views over the child vector
 		auto &array_vector = ArrayVector::GetChildMutable(vec);
-		auto total_size = row_count * ArrayType::GetSize(vec.GetType());
-		jobject j_vec = ProcessVector(env, conn_ref, array_vector, total_size);
-
-		auto limit = ArrayType::GetSize(vec.GetType());
-
-		for (idx_t row_idx = 0; row_idx < row_count; row_idx++) {
-			if (FlatVector::IsNull(vec, row_idx)) {
-				continue;
-			}
-
-			auto offset = row_idx * limit;
-
-			auto j_obj = env->NewObject(J_DuckArray, J_DuckArray_init, j_vec, offset, limit);
-
-			env->SetObjectArrayElement(varlen_data, row_idx, j_obj);
-			env->DeleteLocalRef(j_obj);
-		}
+		auto array_size = ArrayType::GetSize(vec.GetType());
+		jobject j_vec = ProcessVector(env, conn_ref, array_vector, row_count * array_size, false, false, fetch_cache);
+		env->SetObjectField(jvec, J_DuckVector_listChild, j_vec);
+		env->SetIntField(jvec, J_DuckVector_arraySize, static_cast<jint>(array_size));
 		env->DeleteLocalRef(j_vec);
 		break;
 	}
 	case LogicalTypeId::MAP:
 	case LogicalTypeId::LIST: {
-		varlen_data = env->NewObjectArray(row_count, J_DuckArray, nullptr);
-
-		auto list_entries = FlatVector::GetData<list_entry_t>(vec);
-
+		// list cells are created on access in Java from the list entries (offset and length)
+		// as views over the child vector
+		constlen_data = make_vec_data_buf<list_entry_t>(env, vec, row_count);
 		auto list_size = ListVector::GetListSize(vec);
 		auto &list_vector = ListVector::GetChildMutable(vec);
-		auto j_vec = ProcessVector(env, conn_ref, list_vector, list_size);
-
-		for (idx_t row_idx = 0; row_idx < row_count; row_idx++) {
-			if (FlatVector::IsNull(vec, row_idx)) {
-				continue;
-			}
-
-			auto offset = list_entries[row_idx].offset;
-			auto limit = list_entries[row_idx].length;
-
-			auto j_obj = env->NewObject(J_DuckArray, J_DuckArray_init, j_vec, offset, limit);
-
-			env->SetObjectArrayElement(varlen_data, row_idx, j_obj);
-			env->DeleteLocalRef(j_obj);
-		}
+		auto j_vec = ProcessVector(env, conn_ref, list_vector, list_size, false, false, fetch_cache);
+		env->SetObjectField(jvec, J_DuckVector_listChild, j_vec);
 		env->DeleteLocalRef(j_vec);
 		break;
 	}
 	case LogicalTypeId::VARIANT: {
+		// rows are grouped by the type of their value and every group is transferred as one vector,
+		// the group vectors are local and are retained right away
 		RecursiveUnifiedVectorFormat format;
 		Vector::RecursiveToUnifiedFormat(vec, format);
 		UnifiedVariantVectorData vector_data(format);
-		varlen_data = env->NewObjectArray(row_count, J_Object, nullptr);
+		duckdb::vector<Value> values(row_count);
+		duckdb::vector<jint> tags(row_count, -1);
+		duckdb::vector<jint> positions(row_count, 0);
+		type_map_t<idx_t> group_idxs;
+		duckdb::vector<LogicalType> group_types;
+		duckdb::vector<duckdb::vector<idx_t>> group_rows;
 		for (idx_t row_idx = 0; row_idx < row_count; row_idx++) {
-			auto variant_val = VariantUtils::ConvertVariantToValue(vector_data, row_idx, 0);
-			if (variant_val.IsNull()) {
+			values[row_idx] = VariantUtils::ConvertVariantToValue(vector_data, row_idx, 0);
+			if (values[row_idx].IsNull()) {
 				continue;
 			}
-			Vector variant_vec(variant_val.type());
-			variant_vec.SetValue(0, variant_val);
-			jobject variant_j_vec = ProcessVector(env, conn_ref, variant_vec, 1);
-			env->CallVoidMethod(variant_j_vec, J_DuckVector_retainConstlenData);
+			auto &value_type = values[row_idx].type();
+			auto entry = group_idxs.find(value_type);
+			idx_t group_idx;
+			if (entry == group_idxs.end()) {
+				group_idx = group_types.size();
+				group_idxs[value_type] = group_idx;
+				group_types.push_back(value_type);
+				group_rows.emplace_back();
+			} else {
+				group_idx = entry->second;
+			}
+			tags[row_idx] = static_cast<jint>(group_idx);
+			positions[row_idx] = static_cast<jint>(group_rows[group_idx].size());
+			group_rows[group_idx].push_back(row_idx);
+		}
+
+		auto groups = env->NewObjectArray(static_cast<jsize>(group_types.size()), J_DuckVector, nullptr);
+		for (idx_t group_idx = 0; group_idx < group_types.size(); group_idx++) {
+			auto &rows = group_rows[group_idx];
+			Vector group_vec(group_types[group_idx], rows.size());
+			for (idx_t pos = 0; pos < rows.size(); pos++) {
+				group_vec.SetValue(pos, values[rows[pos]]);
+			}
+			jobject group_j_vec = ProcessVector(env, conn_ref, group_vec, rows.size(), false, false, nullptr);
+			env->CallVoidMethod(group_j_vec, J_DuckVector_retain);
 			check_java_exception_and_rethrow(env);
-			env->SetObjectArrayElement(varlen_data, row_idx, variant_j_vec);
-			env->DeleteLocalRef(variant_j_vec);
+			env->SetObjectArrayElement(groups, group_idx, group_j_vec);
+			env->DeleteLocalRef(group_j_vec);
 		}
+		env->SetObjectField(jvec, J_DuckVector_variantValues, groups);
+		env->DeleteLocalRef(groups);
+
+		auto j_tags = env->NewIntArray(static_cast<jsize>(row_count));
+		env->SetIntArrayRegion(j_tags, 0, static_cast<jsize>(row_count), tags.data());
+		env->SetObjectField(jvec, J_DuckVector_variantTags, j_tags);
+		env->DeleteLocalRef(j_tags);
+		auto j_positions = env->NewIntArray(static_cast<jsize>(row_count));
+		env->SetIntArrayRegion(j_positions, 0, static_cast<jsize>(row_count), positions.data());
+		env->SetObjectField(jvec, J_DuckVector_variantPositions, j_positions);
+		env->DeleteLocalRef(j_positions);
 		break;
 	}
 	default: {
@@ -802,20 +1156,24 @@ jobject ProcessVector(JNIEnv *env, Connection *conn_ref, Vector &vec, idx_t row_
 		}
 		// fall through on purpose
 	}
-	case LogicalTypeId::VARCHAR:
-		varlen_data = env->NewObjectArray(row_count, J_String, nullptr);
-		for (idx_t row_idx = 0; row_idx < row_count; row_idx++) {
-			if (FlatVector::IsNull(vec, row_idx)) {
-				continue;
-			}
-			const string_t *vec_data = FlatVector::GetData<string_t>(vec);
-			const string_t d_str = vec_data[row_idx];
-			auto j_str = decode_charbuffer_to_jstring(env, d_str.GetData(), d_str.GetSize());
-			env->SetObjectArrayElement(varlen_data, row_idx, j_str);
-			env->DeleteLocalRef(j_str);
+	case LogicalTypeId::VARCHAR: {
+		if (lazy_strings) {
+			// strings are decoded on access from the string_t entries
+			lazy_string_data = make_vec_data_buf<string_t>(env, vec, row_count);
+			break;
 		}
+		auto &validity = FlatVector::Validity(vec);
+		auto vec_data = FlatVector::GetData<string_t>(vec);
+		varlen_data = decode_strings(env, row_count, [&](idx_t row_idx, string_t &str) {
+			if (!validity.RowIsValid(row_idx)) {
+				return false;
+			}
+			str = vec_data[row_idx];
+			return true;
+		});
 		break;
 	}
+	}
 
 	env->SetObjectField(jvec, J_DuckVector_constlen, constlen_data);
 	if (constlen_data != nullptr) {
@@ -825,9 +1183,14 @@ jobject ProcessVector(JNIEnv *env, Connection *conn_ref, Vector &vec, idx_t row_
 	if (varlen_data != nullptr) {
 		env->DeleteLocalRef(varlen_data);
 	}
+	if (lazy_string_data != nullptr) {
+		env->SetObjectField(jvec, J_DuckVector_lazyStringData, lazy_string_data);
+		env->DeleteLocalRef(lazy_string_data);
+	}
 
-	env->DeleteLocalRef(null_array);
-	env->DeleteLocalRef(type_str);
+	if (validity_array != nullptr) {
+		env->DeleteLocalRef(validity_array);
+	}
 
 	return jvec;
 }
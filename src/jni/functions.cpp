@@ -238,9 +238,20 @@ JNIEXPORT void JNICALL Java_org_duckdb_DuckDBNative_duckdb_1jdbc_1free_1result(J
 	}
 }
 
-JNIEXPORT jobjectArray JNICALL Java_org_duckdb_DuckDBNative_duckdb_1jdbc_1fetch(JNIEnv * env, jclass param0, jobject param1, jobject param2) {
+JNIEXPORT jobjectArray JNICALL Java_org_duckdb_DuckDBNative_duckdb_1jdbc_1fetch(JNIEnv * env, jclass param0, jobject param1, jobject param2, jint param3) {
 	try {
-		return _duckdb_jdbc_fetch(env, param0, param1, param2);
+		return _duckdb_jdbc_fetch(env, param0, param1, param2, param3);
+	} catch (const std::exception &e) {
+		duckdb::ErrorData error(e);
+		ThrowJNI(env, error.Message().c_str());
+
+		return nullptr;
+	}
+}
+
+JNIEXPORT jobjectArray JNICALL Java_org_duckdb_DuckDBNative_duckdb_1jdbc_1fetch_1chunk_1at(JNIEnv * env, jclass param0, jobject param1, jobject param2, jlong param3) {
+	try {
+		return _duckdb_jdbc_fetch_chunk_at(env, param0, param1, param2, param3);
 	} catch (const std::exception &e) {
 		duckdb::ErrorData error(e);
 		ThrowJNI(env, error.Message().c_str());
@@ -97,9 +97,13 @@ void _duckdb_jdbc_free_result(JNIEnv * env, jclass param0, jobject param1);
 
 JNIEXPORT void JNICALL Java_org_duckdb_DuckDBNative_duckdb_1jdbc_1free_1result(JNIEnv * env, jclass param0, jobject param1);
 
-jobjectArray _duckdb_jdbc_fetch(JNIEnv * env, jclass param0, jobject param1, jobject param2);
+jobjectArray _duckdb_jdbc_fetch(JNIEnv * env, jclass param0, jobject param1, jobject param2, jint param3);
 
-JNIEXPORT jobjectArray JNICALL Java_org_duckdb_DuckDBNative_duckdb_1jdbc_1fetch(JNIEnv * env, jclass param0, jobject param1, jobject param2);
+JNIEXPORT jobjectArray JNICALL Java_org_duckdb_DuckDBNative_duckdb_1jdbc_1fetch(JNIEnv * env, jclass param0, jobject param1, jobject param2, jint param3);
+
+jobjectArray _duckdb_jdbc_fetch_chunk_at(JNIEnv * env, jclass param0, jobject param1, jobject param2, jlong param3);
+
+JNIEXPORT jobjectArray JNICALL Java_org_duckdb_DuckDBNative_duckdb_1jdbc_1fetch_1chunk_1at(JNIEnv * env, jclass param0, jobject param1, jobject param2, jlong param3);
 
 jobjectArray _duckdb_jdbc_cast_result_to_strings(JNIEnv * env, jclass param0, jobject param1, jobject param2, jlong param3);
 
@@ -53,6 +53,13 @@ struct PendingHolder {
 struct ResultHolder {
 	duckdb::unique_ptr<duckdb::QueryResult> res;
 	duckdb::unique_ptr<duckdb::DataChunk> chunk;
+	// Global refs to DuckDBVector.ResolvedType instances, created on the first fetch and
+	// reused for all following chunks. Must be deleted before the holder is freed.
+	duckdb::vector<jobject> vector_types;
+	// Global refs to decoded dictionaries of dictionary-encoded VARCHAR vectors by dictionary id
+	duckdb::unordered_map<std::string, jobject> string_dictionaries;
+	// Vectors created while fetching the current chunk that back direct buffers passed to Java
+	duckdb::vector<duckdb::unique_ptr<duckdb::Vector>> fetched_vectors;
 };
 
 struct AttachedJNIEnv {
@@ -59,12 +59,21 @@ jmethodID J_DuckResultSetMeta_init;
 
 jclass J_DuckVector;
 jmethodID J_DuckVector_init;
-jmethodID J_DuckVector_retainConstlenData;
+jmethodID J_DuckVector_retain;
+jmethodID J_DuckVector_decodeStrings;
 jfieldID J_DuckVector_constlen;
 jfieldID J_DuckVector_varlen;
-
-jclass J_DuckArray;
-jmethodID J_DuckArray_init;
+jfieldID J_DuckVector_lazyStringData;
+jfieldID J_DuckVector_selection;
+jfieldID J_DuckVector_constant;
+jfieldID J_DuckVector_structValues;
+jfieldID J_DuckVector_listChild;
+jfieldID J_DuckVector_arraySize;
+jfieldID J_DuckVector_variantValues;
+jfieldID J_DuckVector_variantTags;
+jfieldID J_DuckVector_variantPositions;
+jclass J_DuckVectorResolvedType;
+jmethodID J_DuckVectorResolvedType_init;
 
 jclass J_Struct;
 jmethodID J_Struct_getSQLTypeName;
@@ -74,8 +83,6 @@ jclass J_Array;
 jmethodID J_Array_getBaseTypeName;
 jmethodID J_Array_getArray;
 
-jclass J_DuckStruct;
-jmethodID J_DuckStruct_init;
 
 jclass J_ByteBuffer;
 jmethodID J_ByteBuffer_order;
@@ -240,13 +247,6 @@ void create_refs(JNIEnv *env) {
 	J_UUID_getMostSignificantBits = get_method_id(env, J_UUID, "getMostSignificantBits", "()J");
 	J_UUID_getLeastSignificantBits = get_method_id(env, J_UUID, "getLeastSignificantBits", "()J");
 
-	J_DuckArray = make_class_ref(env, "org/duckdb/DuckDBArray");
-	J_DuckArray_init = get_method_id(env, J_DuckArray, "<init>", "(Lorg/duckdb/DuckDBVector;II)V");
-
-	J_DuckStruct = make_class_ref(env, "org/duckdb/DuckDBStruct");
-	J_DuckStruct_init = get_method_id(env, J_DuckStruct, "<init>",
-	                                  "([Ljava/lang/String;[Lorg/duckdb/DuckDBVector;ILjava/lang/String;)V");
-
 	J_Struct = make_class_ref(env, "java/sql/Struct");
 	J_Struct_getSQLTypeName = get_method_id(env, J_Struct, "getSQLTypeName", "()Ljava/lang/String;");
 	J_Struct_getAttributes = get_method_id(env, J_Struct, "getAttributes", "()[Ljava/lang/Object;");
@@ -290,10 +290,27 @@ void create_refs(JNIEnv *env) {
 
 	J_String_getBytes = get_method_id(env, J_String, "getBytes", "(Ljava/nio/charset/Charset;)[B");
 
-	J_DuckVector_init = get_method_id(env, J_DuckVector, "<init>", "(Ljava/lang/String;I[Z)V");
-	J_DuckVector_retainConstlenData = get_method_id(env, J_DuckVector, "retainConstlenData", "()V");
+	J_DuckVector_init = get_method_id(env, J_DuckVector, "<init>", "(Lorg/duckdb/DuckDBVector$ResolvedType;I[J)V");
+	J_DuckVector_retain = get_method_id(env, J_DuckVector, "retain", "()V");
+	J_DuckVector_decodeStrings =
+	    get_static_method_id(env, J_DuckVector, "decodeStrings", "([B[I[J)[Ljava/lang/String;");
 	J_DuckVector_constlen = get_field_id(env, J_DuckVector, "constlen_data", "Ljava/nio/ByteBuffer;");
 	J_DuckVector_varlen = get_field_id(env, J_DuckVector, "varlen_data", "[Ljava/lang/Object;");
+	J_DuckVector_lazyStringData = get_field_id(env, J_DuckVector, "lazy_string_data", "Ljava/nio/ByteBuffer;");
+	J_DuckVector_selection = get_field_id(env, J_DuckVector, "selection", "[I");
+	J_DuckVector_constant = get_field_id(env, J_DuckVector, "constant", "Z");
+	J_DuckVector_structValues = get_field_id(env, J_DuckVector, "struct_values", "[Lorg/duckdb/DuckDBVector;");
+	J_DuckVector_listChild = get_field_id(env, J_DuckVector, "list_child", "Lorg/duckdb/DuckDBVector;");
+	J_DuckVector_arraySize = get_field_id(env, J_DuckVector, "array_size", "I");
+	J_DuckVector_variantValues =
+	    get_field_id(env, J_DuckVector, "variant_values", "[Lorg/duckdb/DuckDBVector;");
+	J_DuckVector_variantTags = get_field_id(env, J_DuckVector, "variant_tags", "[I");
+	J_DuckVector_variantPositions = get_field_id(env, J_DuckVector, "variant_positions", "[I");
+
+	J_DuckVectorResolvedType = make_class_ref(env, "org/duckdb/DuckDBVector$ResolvedType");
+	J_DuckVectorResolvedType_init =
+	    get_method_id(env, J_DuckVectorResolvedType, "<init>",
+	                  "(Ljava/lang/String;Ljava/lang/String;[Ljava/lang/String;[Ljava/lang/String;I)V");
 
 	J_ByteBuffer = make_class_ref(env, "java/nio/ByteBuffer");
 	J_ByteBuffer_order = get_method_id(env, J_ByteBuffer, "order", "(Ljava/nio/ByteOrder;)Ljava/nio/ByteBuffer;");
@@ -56,12 +56,21 @@ extern jmethodID J_DuckResultSetMeta_init;
 
 extern jclass J_DuckVector;
 extern jmethodID J_DuckVector_init;
-extern jmethodID J_DuckVector_retainConstlenData;
+extern jmethodID J_DuckVector_retain;
+extern jmethodID J_DuckVector_decodeStrings;
 extern jfieldID J_DuckVector_constlen;
 extern jfieldID J_DuckVector_varlen;
-
-extern jclass J_DuckArray;
-extern jmethodID J_DuckArray_init;
+extern jfieldID J_DuckVector_lazyStringData;
+extern jfieldID J_DuckVector_selection;
+extern jfieldID J_DuckVector_constant;
+extern jfieldID J_DuckVector_structValues;
+extern jfieldID J_DuckVector_listChild;
+extern jfieldID J_DuckVector_arraySize;
+extern jfieldID J_DuckVector_variantValues;
+extern jfieldID J_DuckVector_variantTags;
+extern jfieldID J_DuckVector_variantPositions;
+extern jclass J_DuckVectorResolvedType;
+extern jmethodID J_DuckVectorResolvedType_init;
 
 extern jclass J_Struct;
 extern jmethodID J_Struct_getSQLTypeName;
@@ -71,9 +80,6 @@ extern jclass J_Array;
 extern jmethodID J_Array_getBaseTypeName;
 extern jmethodID J_Array_getArray;
 
-extern jclass J_DuckStruct;
-extern jmethodID J_DuckStruct_init;
-
 extern jclass J_ByteBuffer;
 extern jmethodID J_ByteBuffer_order;
 extern jclass J_ByteOrder;
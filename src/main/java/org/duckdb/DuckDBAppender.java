@@ -9,12 +9,14 @@ import static org.duckdb.DuckDBBindings.CAPIType.*;
 import static org.duckdb.DuckDBHugeInt.HUGE_INT_MAX;
 import static org.duckdb.DuckDBHugeInt.HUGE_INT_MIN;
 
+import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.*;
 import java.sql.SQLException;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -71,12 +73,19 @@ public class DuckDBAppender implements AutoCloseable {
         DUCKDB_TYPE_TIMESTAMP_S, DUCKDB_TYPE_TIMESTAMP_MS, DUCKDB_TYPE_TIMESTAMP, DUCKDB_TYPE_TIMESTAMP_NS};
     private static final CAPIType[] timestampMicrosTypes =
         new CAPIType[] {DUCKDB_TYPE_TIMESTAMP, DUCKDB_TYPE_TIMESTAMP_TZ};
+    private static final CAPIType[] int32OrDateTypes =
+        new CAPIType[] {DUCKDB_TYPE_INTEGER, DUCKDB_TYPE_UINTEGER, DUCKDB_TYPE_DATE};
+    private static final CAPIType[] int64OrMomentTypes = new CAPIType[] {
+        DUCKDB_TYPE_BIGINT,       DUCKDB_TYPE_UBIGINT,   DUCKDB_TYPE_TIME,         DUCKDB_TYPE_TIMESTAMP_S,
+        DUCKDB_TYPE_TIMESTAMP_MS, DUCKDB_TYPE_TIMESTAMP, DUCKDB_TYPE_TIMESTAMP_NS, DUCKDB_TYPE_TIMESTAMP_TZ};
     private static final CAPIType[] collectionTypes = new CAPIType[] {DUCKDB_TYPE_ARRAY, DUCKDB_TYPE_LIST};
     private static final CAPIType[] varlenTypes =
         new CAPIType[] {DUCKDB_TYPE_VARCHAR, DUCKDB_TYPE_BLOB, DUCKDB_TYPE_GEOMETRY};
     private static final CAPIType[] varcharOrEnumTypes = new CAPIType[] {DUCKDB_TYPE_VARCHAR, DUCKDB_TYPE_ENUM};
 
     private static final int STRING_MAX_INLINE_BYTES = 12;
+    // pending strings of a column are written early once their payload grows beyond this size
+    private static final int STRING_BATCH_MAX_BYTES = 1 << 22;
 
     private static final LocalDateTime EPOCH_DATE_TIME = LocalDateTime.ofEpochSecond(0, 0, UTC);
 
@@ -91,16 +100,42 @@ public class DuckDBAppender implements AutoCloseable {
     private ByteBuffer appenderRef;
     private final Lock appenderRefLock = new ReentrantLock();
 
-    private final ByteBuffer chunkRef;
-    private final List<Column> columns;
+    private ByteBuffer chunkRef;
+    private List<Column> columns;
 
     private long rowIdx = 0;
 
+    // the native appender only commits to the table when it collected a row group or when flushed,
+    // full chunks are handed over to it without flushing unless one of the thresholds is reached
+    private long flushThresholdRows = 0;
+    private long flushThresholdBytes = 0;
+    private final long rowWidthBytes;
+    private long chunkVarlenBytes = 0;
+    private long pendingRows = 0;
+    private long pendingBytes = 0;
+    private long appendedRows = 0;
+
     private Column currentColumn = null;
     private Column prevColumn = null;
 
+    // columns with strings buffered for the current chunk
+    private final List<Column> pendingStringColumns = new ArrayList<>();
+
     private boolean writeInlinedStrings = true;
 
+    // In async mode full chunks are appended by a background task while the rows of the next
+    // chunk are written, the spare chunks wait in the free queue.
+    private volatile boolean async = false;
+    private final Lock asyncLock = new ReentrantLock();
+    private final Condition asyncChanged = asyncLock.newCondition();
+    // guarded by asyncLock
+    private final ArrayDeque<ChunkBuffer> freeChunks = new ArrayDeque<>();
+    private final ArrayDeque<ChunkBuffer> queuedChunks = new ArrayDeque<>();
+    private boolean asyncAppending = false;
+    private volatile SQLException asyncError = null;
+    // serializes the background appends with the calls that use the native appender
+    private final Lock nativeAppenderLock = new ReentrantLock();
+
     private long ownerThreadId = currentThread().getId();
 
     DuckDBAppender(DuckDBConnection conn, String catalog, String schema, String table) throws SQLException {
@@ -138,6 +173,7 @@ public class DuckDBAppender implements AutoCloseable {
         this.appenderRef = appenderRef;
         this.chunkRef = chunkRef;
         this.columns = cols;
+        this.rowWidthBytes = estimateRowWidthBytes(cols);
     }
 
     public DuckDBAppender beginRow() throws SQLException {
@@ -165,17 +201,30 @@ public class DuckDBAppender implements AutoCloseable {
                     "calls to 'beginRow' and 'endRow' must be paired and cannot be interleaved with other 'begin*' and 'end*' calls"));
             }
         }
+        if (null != asyncError) {
+            throwAsyncError();
+        }
 
         rowIdx++;
+        appendedRows++;
         Column prev = prevColumn;
         this.prevColumn = null;
         if (rowIdx >= MAX_TOP_LEVEL_ROWS) {
+            appenderRefLock.lock();
             try {
-                flush();
-            } catch (SQLException e) {
-                this.prevColumn = prev;
-                rowIdx--;
-                throw e;
+                try {
+                    appendChunk();
+                } catch (SQLException e) {
+                    this.prevColumn = prev;
+                    rowIdx--;
+                    appendedRows--;
+                    throw e;
+                }
+                if (flushThresholdReached()) {
+                    flushAppender();
+                }
+            } finally {
+                appenderRefLock.unlock();
             }
         }
 
@@ -232,51 +281,107 @@ public class DuckDBAppender implements AutoCloseable {
         return this;
     }
 
+    /**
+     * Appends the rows of the current chunk and flushes all the rows appended since the previous
+     * flush to the table.
+     *
+     * @return number of rows flushed to the table
+     * @throws SQLException if a row is not completed or the rows cannot be appended or flushed
+     */
     public long flush() throws SQLException {
         checkOpen();
         if (!readyForANewRowInvariant()) {
             throw new SQLException(createErrMsg("'endRow' must be called before calling 'flush'"));
         }
 
-        if (0 == rowIdx) {
-            return rowIdx;
+        if (0 == rowIdx && 0 == pendingRows) {
+            if (null != asyncError) {
+                throwAsyncError();
+            }
+            return 0;
         }
 
         appenderRefLock.lock();
         try {
             checkOpen();
+            appendChunk();
+            return flushAppender();
+        } finally {
+            appenderRefLock.unlock();
+        }
+    }
 
-            duckdb_data_chunk_set_size(chunkRef, rowIdx);
+    private void appendChunk() throws SQLException {
+        checkOpen();
+        if (0 == rowIdx) {
+            return;
+        }
 
+        if (null != asyncError) {
+            throwAsyncError();
+        }
+        putPendingStrings();
+        duckdb_data_chunk_set_size(chunkRef, rowIdx);
+
+        if (async) {
+            ChunkBuffer next = takeFreeChunk();
+            queueChunk(new ChunkBuffer(chunkRef, columns));
+            this.chunkRef = next.chunkRef;
+            this.columns = next.columns;
+        } else {
             int appendState = duckdb_append_data_chunk(appenderRef, chunkRef);
             if (0 != appendState) {
                 byte[] errorUTF8 = duckdb_appender_error(appenderRef);
                 String error = strFromUTF8(errorUTF8);
                 throw new SQLException(createErrMsg(error));
             }
+            resetChunk(chunkRef, columns);
+        }
 
-            int flushState = duckdb_appender_flush(appenderRef);
-            if (0 != flushState) {
-                byte[] errorUTF8 = duckdb_appender_error(appenderRef);
-                String error = strFromUTF8(errorUTF8);
-                throw new SQLException(createErrMsg(error));
-            }
+        pendingRows += rowIdx;
+        pendingBytes += rowIdx * rowWidthBytes + chunkVarlenBytes;
+        rowIdx = 0;
+        chunkVarlenBytes = 0;
+    }
 
-            duckdb_data_chunk_reset(chunkRef);
-            try {
-                for (Column col : columns) {
-                    col.reset();
-                }
-            } catch (SQLException e) {
-                throw new SQLException(createErrMsg(e.getMessage()), e);
+    private void resetChunk(ByteBuffer chunk, List<Column> cols) throws SQLException {
+        duckdb_data_chunk_reset(chunk);
+        try {
+            for (Column col : cols) {
+                col.reset();
             }
+        } catch (SQLException e) {
+            throw new SQLException(createErrMsg(e.getMessage()), e);
+        }
+    }
 
-            long ret = rowIdx;
-            rowIdx = 0;
-            return ret;
-        } finally {
-            appenderRefLock.unlock();
+    private long flushAppender() throws SQLException {
+        checkOpen();
+        if (0 == pendingRows) {
+            return 0;
+        }
+        if (async) {
+            awaitAsyncAppends(true);
         }
+
+        int flushState = duckdb_appender_flush(appenderRef);
+        long ret = pendingRows;
+        pendingRows = 0;
+        pendingBytes = 0;
+        if (0 != flushState) {
+            byte[] errorUTF8 = duckdb_appender_error(appenderRef);
+            String error = strFromUTF8(errorUTF8);
+            throw new SQLException(createErrMsg(error));
+        }
+        if (null != asyncError) {
+            throwAsyncError();
+        }
+        return ret;
+    }
+
+    private boolean flushThresholdReached() {
+        return (flushThresholdRows > 0 && pendingRows >= flushThresholdRows) ||
+            (flushThresholdBytes > 0 && pendingBytes >= flushThresholdBytes);
     }
 
     @Override
@@ -289,12 +394,38 @@ public class DuckDBAppender implements AutoCloseable {
             if (isClosed()) {
                 return;
             }
-            if (rowIdx > 0) {
+            SQLException asyncFailure = null;
+            if (rowIdx > 0 || pendingRows > 0) {
                 try {
                     flush();
                 } catch (SQLException e) {
-                    // suppress
+                    // suppress, unless the rows of a chunk appended in background were lost
+                    if (async) {
+                        asyncFailure = e;
+                        try {
+                            flush();
+                        } catch (SQLException e1) {
+                            asyncFailure.addSuppressed(e1);
+                        }
+                    }
+                }
+            }
+            if (async) {
+                try {
+                    awaitAsyncAppends(false);
+                } catch (SQLException e) {
+                    // not interruptible
+                }
+                if (null != asyncError && null == asyncFailure) {
+                    asyncFailure = new SQLException(asyncError.getMessage(), asyncError);
+                }
+                for (ChunkBuffer chunk : freeChunks) {
+                    for (Column col : chunk.columns) {
+                        col.destroy();
+                    }
+                    duckdb_destroy_data_chunk(chunk.chunkRef);
                 }
+                freeChunks.clear();
             }
             for (Column col : columns) {
                 col.destroy();
@@ -316,6 +447,9 @@ public class DuckDBAppender implements AutoCloseable {
             }
 
             appenderRef = null;
+            if (null != asyncFailure) {
+                throw asyncFailure;
+            }
         } finally {
             appenderRefLock.unlock();
         }
@@ -576,7 +710,11 @@ public class DuckDBAppender implements AutoCloseable {
         if (values == null) {
             return appendNull();
         }
-        putStringOrBlob(col, rowIdx, values);
+        if (col.colType == DUCKDB_TYPE_VARCHAR) {
+            putUTF8Bytes(col, rowIdx, values);
+        } else {
+            putStringOrBlob(col, rowIdx, values);
+        }
         moveToNextColumn();
         return this;
     }
@@ -951,16 +1089,96 @@ public class DuckDBAppender implements AutoCloseable {
     public DuckDBAppender appendDefault() throws SQLException {
         Column col = currentColumn();
         appenderRefLock.lock();
+        nativeAppenderLock.lock();
         try {
             checkOpen();
             duckdb_append_default_to_chunk(appenderRef, chunkRef, col.idx, rowIdx);
         } finally {
+            nativeAppenderLock.unlock();
             appenderRefLock.unlock();
         }
         moveToNextColumn();
         return this;
     }
 
+    // append columns
+
+    public DuckDBAppender appendColumns(int rowCount, Object... columnValues) throws SQLException {
+        return appendColumns(rowCount, columnValues, null);
+    }
+
+    /**
+     * Appends {@code rowCount} rows given as one array per top-level column, without going through
+     * the rows and columns one value at a time.
+     *
+     * <p>The arrays are copied into the data chunk as a whole, the strings and blobs of a column
+     * are written with a single call per chunk. Supported are {@code boolean[]}, {@code byte[]}, {@code short[]},
+     * {@code int[]}, {@code long[]}, {@code float[]} and {@code double[]} arrays for the numeric
+     * columns of the matching width, {@code int[]} epoch days for {@code DATE} columns,
+     * {@code long[]} values in the unit of the column for {@code TIME} and {@code TIMESTAMP}
+     * columns, {@code String[]} arrays for {@code VARCHAR} columns and {@code byte[][]} arrays
+     * for {@code VARCHAR}, {@code BLOB} and {@code GEOMETRY} columns. Null elements of object
+     * arrays are appended as NULL.
+     *
+     * @param rowCount number of rows to append, the arrays may be longer
+     * @param columnValues array of values for every column of the table
+     * @param nullMasks optional NULL flags for every column, the array and its elements may be
+     *        {@code null}
+     * @return this appender
+     * @throws SQLException if an array does not match its column or the rows cannot be appended
+     */
+    public DuckDBAppender appendColumns(int rowCount, Object[] columnValues, boolean[][] nullMasks)
+        throws SQLException {
+        checkOpen();
+        if (!readyForANewRowInvariant()) {
+            throw new SQLException(createErrMsg("'endRow' must be called before calling 'appendColumns'"));
+        }
+        if (rowCount < 0) {
+            throw new SQLException(createErrMsg("invalid rows count: " + rowCount));
+        }
+        if (null == columnValues || columnValues.length != columns.size()) {
+            throw new SQLException(createErrMsg("invalid column arrays count, expected: " + columns.size() +
+                                                ", actual: " + (null != columnValues ? columnValues.length : 0)));
+        }
+        if (null != nullMasks && nullMasks.length != columns.size()) {
+            throw new SQLException(createErrMsg("invalid null masks count, expected: " + columns.size() +
+                                                ", actual: " + nullMasks.length));
+        }
+        for (int i = 0; i < columnValues.length; i++) {
+            checkColumnValues(columns.get(i), columnValues[i], null != nullMasks ? nullMasks[i] : null, rowCount);
+        }
+
+        int offset = 0;
+        while (offset < rowCount) {
+            int count = (int) Math.min(rowCount - offset, MAX_TOP_LEVEL_ROWS - rowIdx);
+            for (int i = 0; i < columnValues.length; i++) {
+                putColumnValues(columns.get(i), rowIdx, columnValues[i], null != nullMasks ? nullMasks[i] : null,
+                                offset, count);
+            }
+            rowIdx += count;
+            appendedRows += count;
+            offset += count;
+            if (rowIdx >= MAX_TOP_LEVEL_ROWS) {
+                appenderRefLock.lock();
+                try {
+                    try {
+                        appendChunk();
+                    } catch (SQLException e) {
+                        rowIdx -= count;
+                        appendedRows -= count;
+                        throw e;
+                    }
+                    if (flushThresholdReached()) {
+                        flushAppender();
+                    }
+                } finally {
+                    appenderRefLock.unlock();
+                }
+            }
+        }
+        return this;
+    }
+
     // options
 
     public boolean getWriteInlinedStrings() {
@@ -972,11 +1190,110 @@ public class DuckDBAppender implements AutoCloseable {
         return this;
     }
 
+    public long getFlushThresholdRows() {
+        return flushThresholdRows;
+    }
+
+    /**
+     * Sets the number of appended rows after which a full chunk also flushes the table.
+     *
+     * <p>Full chunks are handed over to the native appender, that flushes to the table on its
+     * own once it collected a row group. With a positive threshold the table is also flushed
+     * as soon as the rows appended since the previous flush reach it, {@code 0} disables it.
+     *
+     * @param rows number of rows, {@code 0} to flush on explicit calls to {@link #flush()} only
+     * @return this appender
+     * @throws SQLException if the number of rows is negative
+     */
+    public DuckDBAppender setFlushThresholdRows(long rows) throws SQLException {
+        if (rows < 0) {
+            throw new SQLException(createErrMsg("invalid flush threshold rows: " + rows));
+        }
+        this.flushThresholdRows = rows;
+        return this;
+    }
+
+    public long getFlushThresholdBytes() {
+        return flushThresholdBytes;
+    }
+
+    /**
+     * Sets the estimated size of the appended rows after which a full chunk also flushes the
+     * table. The size is estimated from the widths of the column types and the lengths of the
+     * appended strings and blobs.
+     *
+     * @param bytes number of bytes, {@code 0} to flush on explicit calls to {@link #flush()} only
+     * @return this appender
+     * @throws SQLException if the number of bytes is negative
+     */
+    public DuckDBAppender setFlushThresholdBytes(long bytes) throws SQLException {
+        if (bytes < 0) {
+            throw new SQLException(createErrMsg("invalid flush threshold bytes: " + bytes));
+        }
+        this.flushThresholdBytes = bytes;
+        return this;
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Enables the asynchronous mode, in which full chunks are appended by a background task
+     * while the rows of the next chunk are written.
+     *
+     * <p>The appender keeps {@code chunks} data chunks: the one rows are written to, and the
+     * ones queued for appending; when all of them are queued, the call that fills the chunk
+     * waits for the background task. An error in the background task is thrown by the next
+     * call to {@link #endRow()}, {@link #flush()} or {@link #close()}, the rows of the chunk
+     * that failed are lost.
+     *
+     * @param chunks number of data chunks, at least {@code 2}
+     * @return this appender
+     * @throws SQLException if rows were appended already or the chunks cannot be created
+     */
+    public DuckDBAppender setAsync(int chunks) throws SQLException {
+        checkOpen();
+        if (async || appendedRows > 0 || !readyForANewRowInvariant()) {
+            throw new SQLException(createErrMsg("async mode must be enabled before appending rows"));
+        }
+        if (chunks < 2) {
+            throw new SQLException(createErrMsg("invalid async chunks count: " + chunks + ", must be at least 2"));
+        }
+        appenderRefLock.lock();
+        try {
+            checkOpen();
+            List<ChunkBuffer> created = new ArrayList<>();
+            try {
+                for (int i = 1; i < chunks; i++) {
+                    created.add(createChunkBuffer(appenderRef));
+                }
+            } catch (SQLException e) {
+                for (ChunkBuffer chunk : created) {
+                    for (Column col : chunk.columns) {
+                        col.destroy();
+                    }
+                    duckdb_destroy_data_chunk(chunk.chunkRef);
+                }
+                throw new SQLException(createErrMsg(e.getMessage()), e);
+            }
+            freeChunks.addAll(created);
+            this.async = true;
+        } finally {
+            appenderRefLock.unlock();
+        }
+        return this;
+    }
+
     public Lock unsafeBreakThreadConfinement() {
         this.ownerThreadId = 0;
         return this.appenderRefLock;
     }
 
+    long appendedRows() {
+        return appendedRows;
+    }
+
     private String createErrMsg(String error) {
         return "Appender error"
             + ", catalog: '" + catalog + "'"
@@ -985,6 +1302,149 @@ public class DuckDBAppender implements AutoCloseable {
             + ", message: " + (null != error ? error : "N/A");
     }
 
+    // async appends
+
+    private ChunkBuffer takeFreeChunk() throws SQLException {
+        asyncLock.lock();
+        try {
+            while (freeChunks.isEmpty()) {
+                asyncChanged.await();
+            }
+            return freeChunks.poll();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(createErrMsg("interrupted while waiting for a free chunk"), e);
+        } finally {
+            asyncLock.unlock();
+        }
+    }
+
+    private void queueChunk(ChunkBuffer chunk) {
+        ByteBuffer ref = appenderRef;
+        asyncLock.lock();
+        try {
+            queuedChunks.add(chunk);
+            if (asyncAppending) {
+                return;
+            }
+            asyncAppending = true;
+        } finally {
+            asyncLock.unlock();
+        }
+        DuckDBDriver.appenderExecutor.execute(() -> appendQueuedChunks(ref));
+    }
+
+    // appends the queued chunks one after another, in the order they were filled
+    private void appendQueuedChunks(ByteBuffer ref) {
+        boolean idle = false;
+        try {
+            while (true) {
+                ChunkBuffer chunk;
+                asyncLock.lock();
+                try {
+                    chunk = queuedChunks.poll();
+                    if (null == chunk) {
+                        asyncAppending = false;
+                        asyncChanged.signalAll();
+                        idle = true;
+                        return;
+                    }
+                } finally {
+                    asyncLock.unlock();
+                }
+                appendQueuedChunk(ref, chunk);
+            }
+        } finally {
+            // producers must not keep waiting for a task that stopped
+            if (!idle) {
+                asyncLock.lock();
+                try {
+                    asyncAppending = false;
+                    asyncChanged.signalAll();
+                } finally {
+                    asyncLock.unlock();
+                }
+            }
+        }
+    }
+
+    // the chunk is always given back, any failure is reported to the producer
+    private void appendQueuedChunk(ByteBuffer ref, ChunkBuffer chunk) {
+        SQLException error = null;
+        try {
+            nativeAppenderLock.lock();
+            try {
+                int appendState = duckdb_append_data_chunk(ref, chunk.chunkRef);
+                if (0 != appendState) {
+                    error = new SQLException(createErrMsg(strFromUTF8(duckdb_appender_error(ref))));
+                }
+            } finally {
+                nativeAppenderLock.unlock();
+            }
+        } catch (Throwable e) {
+            error = asyncFailure(e);
+        } finally {
+            try {
+                resetChunk(chunk.chunkRef, chunk.columns);
+            } catch (Throwable e) {
+                error = null == error ? asyncFailure(e) : error;
+            }
+            asyncLock.lock();
+            try {
+                if (null != error) {
+                    if (null == asyncError) {
+                        asyncError = error;
+                    } else {
+                        asyncError.addSuppressed(error);
+                    }
+                }
+                freeChunks.add(chunk);
+                asyncChanged.signalAll();
+            } finally {
+                asyncLock.unlock();
+            }
+        }
+    }
+
+    private SQLException asyncFailure(Throwable e) {
+        if (e instanceof SQLException) {
+            return (SQLException) e;
+        }
+        return new SQLException(createErrMsg("failed to append the chunk: " + e), e);
+    }
+
+    private void awaitAsyncAppends(boolean interruptible) throws SQLException {
+        asyncLock.lock();
+        try {
+            while (asyncAppending) {
+                if (interruptible) {
+                    asyncChanged.await();
+                } else {
+                    asyncChanged.awaitUninterruptibly();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(createErrMsg("interrupted while waiting for the appended chunks"), e);
+        } finally {
+            asyncLock.unlock();
+        }
+    }
+
+    private void throwAsyncError() throws SQLException {
+        SQLException error;
+        asyncLock.lock();
+        try {
+            error = asyncError;
+            asyncError = null;
+        } finally {
+            asyncLock.unlock();
+        }
+        if (null != error) {
+            throw new SQLException(error.getMessage(), error);
+        }
+    }
+
     // next column
 
     private Column nextColumn(Column curCol) {
@@ -1149,6 +1609,132 @@ public class DuckDBAppender implements AutoCloseable {
         return col;
     }
 
+    // columns
+
+    private void checkColumnValues(Column col, Object values, boolean[] nullMask, int rowCount)
+        throws SQLException {
+        if (null == values) {
+            throw new SQLException(createErrMsg("invalid null array for column: " + col.idx));
+        }
+        if (values instanceof boolean[]) {
+            checkColumnType(col, DUCKDB_TYPE_BOOLEAN);
+        } else if (values instanceof byte[]) {
+            checkColumnType(col, int8Types);
+        } else if (values instanceof short[]) {
+            checkColumnType(col, int16Types);
+        } else if (values instanceof int[]) {
+            checkColumnType(col, int32OrDateTypes);
+        } else if (values instanceof long[]) {
+            checkColumnType(col, int64OrMomentTypes);
+        } else if (values instanceof float[]) {
+            checkColumnType(col, DUCKDB_TYPE_FLOAT);
+        } else if (values instanceof double[]) {
+            checkColumnType(col, DUCKDB_TYPE_DOUBLE);
+        } else if (values instanceof String[]) {
+            checkColumnType(col, DUCKDB_TYPE_VARCHAR);
+        } else if (values instanceof byte[][]) {
+            checkColumnType(col, varlenTypes);
+        } else {
+            throw new SQLException(createErrMsg("unsupported array type: '" + values.getClass().getSimpleName() +
+                                                "', column: " + col.idx));
+        }
+        int length = Array.getLength(values);
+        if (length < rowCount) {
+            throw new SQLException(createErrMsg("invalid array size for column: " + col.idx +
+                                                ", expected at least: " + rowCount + ", actual: " + length));
+        }
+        if (null != nullMask && nullMask.length < rowCount) {
+            throw new SQLException(createErrMsg("invalid null mask size for column: " + col.idx +
+                                                ", expected at least: " + rowCount + ", actual: " + nullMask.length));
+        }
+    }
+
+    private void putColumnValues(Column col, long vectorIdx, Object values, boolean[] nullMask, int offset, int count)
+        throws SQLException {
+        if (values instanceof String[] || values instanceof byte[][]) {
+            putStrings(col, vectorIdx, (Object[]) values, nullMask, offset, count);
+            return;
+        }
+        ByteBuffer data = col.data;
+        data.position((int) (vectorIdx * col.widthBytes()));
+        if (values instanceof boolean[]) {
+            boolean[] arr = (boolean[]) values;
+            for (int i = offset; i < offset + count; i++) {
+                data.put((byte) (arr[i] ? 1 : 0));
+            }
+        } else if (values instanceof byte[]) {
+            data.put((byte[]) values, offset, count);
+        } else if (values instanceof short[]) {
+            data.asShortBuffer().put((short[]) values, offset, count);
+        } else if (values instanceof int[]) {
+            data.asIntBuffer().put((int[]) values, offset, count);
+        } else if (values instanceof long[]) {
+            data.asLongBuffer().put((long[]) values, offset, count);
+        } else if (values instanceof float[]) {
+            data.asFloatBuffer().put((float[]) values, offset, count);
+        } else {
+            data.asDoubleBuffer().put((double[]) values, offset, count);
+        }
+        putValidity(col, vectorIdx, nullMask, offset, count);
+    }
+
+    private void putValidity(Column col, long vectorIdx, boolean[] nullMask, int offset, int count) {
+        LongBuffer entries = col.validity.asLongBuffer();
+        long end = vectorIdx + count;
+        for (long entryStart = vectorIdx - vectorIdx % 64; entryStart < end; entryStart += 64) {
+            int entryPos = (int) (entryStart / 64);
+            long mask = entries.get(entryPos);
+            long first = Math.max(entryStart, vectorIdx);
+            long last = Math.min(entryStart + 64, end);
+            for (long idx = first; idx < last; idx++) {
+                long bit = 1L << (idx - entryStart);
+                if (null != nullMask && nullMask[(int) (offset + idx - vectorIdx)]) {
+                    mask &= ~bit;
+                } else {
+                    mask |= bit;
+                }
+            }
+            entries.put(entryPos, mask);
+        }
+    }
+
+    private void putStrings(Column col, long vectorIdx, Object[] values, boolean[] nullMask, int offset, int count)
+        throws SQLException {
+        long[] lengths = new long[count];
+        byte[][] encoded = new byte[count][];
+        long payloadLength = 0;
+        for (int i = 0; i < count; i++) {
+            Object value = values[offset + i];
+            if (null == value || (null != nullMask && nullMask[offset + i])) {
+                lengths[i] = -1;
+                continue;
+            }
+            byte[] bytes = value instanceof String ? utf8((String) value) : (byte[]) value;
+            encoded[i] = bytes;
+            lengths[i] = bytes.length;
+            payloadLength += bytes.length;
+        }
+        if (payloadLength > Integer.MAX_VALUE) {
+            throw new SQLException(createErrMsg("strings too large for a single chunk: " + payloadLength + " bytes"));
+        }
+        byte[] payload = new byte[(int) payloadLength];
+        int position = 0;
+        for (byte[] bytes : encoded) {
+            if (null != bytes) {
+                System.arraycopy(bytes, 0, payload, position, bytes.length);
+                position += bytes.length;
+            }
+        }
+        appenderRefLock.lock();
+        try {
+            checkOpen();
+            duckdb_vector_assign_string_elements(col.vectorRef, vectorIdx, payload, lengths, position);
+        } finally {
+            appenderRefLock.unlock();
+        }
+        chunkVarlenBytes += payloadLength;
+    }
+
     // null mask
 
     private void setNullMask(Column col, long vectorIdx, boolean[] nullMask, int elementsCount) throws SQLException {
@@ -1326,14 +1912,30 @@ public class DuckDBAppender implements AutoCloseable {
         }
     }
 
+    // Strings that are not inlined are buffered per column and written with a single call for
+    // every run of consecutive rows, the call validates the UTF-8 of VARCHAR strings only
     private void putStringOrBlob(Column col, long vectorIdx, byte[] bytes) throws SQLException {
+        chunkVarlenBytes += bytes.length;
+        PendingStrings pending = col.pendingStrings;
+        boolean extendsRun = !pending.isEmpty() && pending.follows(vectorIdx);
+        if (writeInlinedStrings && bytes.length < STRING_MAX_INLINE_BYTES && !extendsRun) {
+            putInlinedString(col, vectorIdx, bytes);
+            return;
+        }
+        if (!pending.follows(vectorIdx) || pending.payloadLength > STRING_BATCH_MAX_BYTES - bytes.length) {
+            putPendingStrings(col);
+        }
+        if (pending.isEmpty()) {
+            pendingStringColumns.add(col);
+        }
+        pending.add(vectorIdx, bytes);
+    }
+
+    // bytes that are not valid UTF-8 are written as NULL
+    private void putUTF8Bytes(Column col, long vectorIdx, byte[] bytes) throws SQLException {
+        chunkVarlenBytes += bytes.length;
         if (writeInlinedStrings && bytes.length < STRING_MAX_INLINE_BYTES) {
-            int pos = (int) (vectorIdx * col.colType.widthBytes);
-            col.data.position(pos);
-            col.data.putInt(bytes.length);
-            if (bytes.length > 0) {
-                col.data.put(bytes);
-            }
+            putInlinedString(col, vectorIdx, bytes);
         } else {
             appenderRefLock.lock();
             try {
@@ -1345,6 +1947,45 @@ public class DuckDBAppender implements AutoCloseable {
         }
     }
 
+    private void putInlinedString(Column col, long vectorIdx, byte[] bytes) {
+        int pos = (int) (vectorIdx * col.colType.widthBytes);
+        col.data.position(pos);
+        col.data.putInt(bytes.length);
+        if (bytes.length > 0) {
+            col.data.put(bytes);
+        }
+    }
+
+    private void putPendingStrings() throws SQLException {
+        try {
+            for (Column col : pendingStringColumns) {
+                putPendingStrings(col);
+            }
+        } finally {
+            for (Column col : pendingStringColumns) {
+                col.pendingStrings.clear();
+            }
+            pendingStringColumns.clear();
+        }
+    }
+
+    private void putPendingStrings(Column col) throws SQLException {
+        PendingStrings pending = col.pendingStrings;
+        if (pending.isEmpty()) {
+            return;
+        }
+        appenderRefLock.lock();
+        try {
+            checkOpen();
+            long[] lengths = Arrays.copyOf(pending.lengths, pending.count);
+            duckdb_vector_assign_string_elements(col.vectorRef, pending.startIdx, pending.payload, lengths,
+                                                 pending.payloadLength);
+        } finally {
+            pending.clear();
+            appenderRefLock.unlock();
+        }
+    }
+
     private void putUUID(Column col, long vectorIdx, long mostSigBits, long leastSigBits) throws SQLException {
         int pos = (int) (vectorIdx * col.colType.widthBytes);
         col.data.position(pos);
@@ -2217,6 +2858,37 @@ public class DuckDBAppender implements AutoCloseable {
 
     // static methods
 
+    private static ChunkBuffer createChunkBuffer(ByteBuffer appenderRef) throws SQLException {
+        ByteBuffer[] colTypes = readTableTypes(appenderRef);
+        ByteBuffer chunkRef = null;
+        try {
+            chunkRef = createChunk(colTypes);
+            return new ChunkBuffer(chunkRef, createTopLevelColumns(chunkRef, colTypes));
+        } catch (SQLException e) {
+            if (null != chunkRef) {
+                duckdb_destroy_data_chunk(chunkRef);
+            }
+            for (ByteBuffer ct : colTypes) {
+                if (null != ct) {
+                    duckdb_destroy_logical_type(ct);
+                }
+            }
+            throw e;
+        }
+    }
+
+    private static long estimateRowWidthBytes(List<Column> cols) {
+        long width = 0;
+        for (Column col : cols) {
+            width += col.arraySize * col.widthBytes();
+            // elements of lists and maps are not accounted for, except for their strings and blobs
+            if (col.colType != DUCKDB_TYPE_LIST && col.colType != DUCKDB_TYPE_MAP) {
+                width += col.arraySize * estimateRowWidthBytes(col.children);
+            }
+        }
+        return width;
+    }
+
     private static ByteBuffer createAppender(DuckDBConnection conn, String catalog, String schema, String table)
         throws SQLException {
         conn.checkOpen();
@@ -2330,6 +3002,67 @@ public class DuckDBAppender implements AutoCloseable {
         return dict;
     }
 
+    private static boolean isVarlenType(CAPIType ctype) {
+        for (CAPIType ct : varlenTypes) {
+            if (ct == ctype) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class ChunkBuffer {
+        private final ByteBuffer chunkRef;
+        private final List<Column> columns;
+
+        private ChunkBuffer(ByteBuffer chunkRef, List<Column> columns) {
+            this.chunkRef = chunkRef;
+            this.columns = columns;
+        }
+    }
+
+    private static class PendingStrings {
+        // run of consecutive rows starting at startIdx, negative lengths mark NULL rows
+        private long startIdx = 0;
+        private int count = 0;
+        private long[] lengths = new long[64];
+        private byte[] payload = new byte[1024];
+        private int payloadLength = 0;
+
+        boolean isEmpty() {
+            return 0 == count;
+        }
+
+        boolean follows(long vectorIdx) {
+            return 0 == count || startIdx + count == vectorIdx;
+        }
+
+        void add(long vectorIdx, byte[] bytes) {
+            if (0 == count) {
+                startIdx = vectorIdx;
+            }
+            if (count == lengths.length) {
+                lengths = Arrays.copyOf(lengths, count * 2);
+            }
+            if (null == bytes) {
+                lengths[count++] = -1;
+                return;
+            }
+            if (payload.length - payloadLength < bytes.length) {
+                long capacity = Math.max((long) payloadLength + bytes.length, 2L * payload.length);
+                payload = Arrays.copyOf(payload, (int) Math.min(capacity, Integer.MAX_VALUE));
+            }
+            System.arraycopy(bytes, 0, payload, payloadLength, bytes.length);
+            payloadLength += bytes.length;
+            lengths[count++] = bytes.length;
+        }
+
+        void clear() {
+            count = 0;
+            payloadLength = 0;
+        }
+    }
+
     private static class Column {
         private final Column parent;
         private final int idx;
@@ -2345,6 +3078,7 @@ public class DuckDBAppender implements AutoCloseable {
 
         private final ByteBuffer vectorRef;
         private final List<Column> children = new ArrayList<>();
+        private final PendingStrings pendingStrings;
 
         private long listSize = 0;
         private ByteBuffer data = null;
@@ -2394,6 +3128,7 @@ public class DuckDBAppender implements AutoCloseable {
             }
 
             this.vectorRef = vector;
+            this.pendingStrings = isVarlenType(colType) ? new PendingStrings() : null;
 
             if (null == parent || parent.colType != DUCKDB_TYPE_ARRAY) {
                 this.arraySize = 1;
@@ -2497,6 +3232,9 @@ public class DuckDBAppender implements AutoCloseable {
         }
 
         void setNullOnVectorIdx(long vectorIdx) {
+            if (null != pendingStrings && !pendingStrings.isEmpty() && pendingStrings.follows(vectorIdx)) {
+                pendingStrings.add(vectorIdx, null);
+            }
             long validityPos = vectorIdx / 64;
             LongBuffer entries = this.validity.asLongBuffer();
             entries.position((int) validityPos);
@@ -9,19 +9,15 @@ import java.util.Arrays;
 import java.util.Map;
 
 public class DuckDBArray implements Array {
-    private final Object[] array;
     private final DuckDBVector vector;
     final int offset, length;
+    // elements are only boxed when the array is requested
+    private Object[] array;
 
-    DuckDBArray(DuckDBVector vector, int offset, int length) throws SQLException {
+    DuckDBArray(DuckDBVector vector, int offset, int length) {
         this.vector = vector;
         this.length = length;
         this.offset = offset;
-
-        array = new Object[length];
-        for (int i = 0; i < length; i++) {
-            array[i] = vector.getObject(offset + i);
-        }
     }
 
     @Override
@@ -30,9 +26,52 @@ public class DuckDBArray implements Array {
     }
     @Override
     public Object getArray() throws SQLException {
+        if (null == array) {
+            Object[] elements = new Object[length];
+            for (int i = 0; i < length; i++) {
+                elements[i] = vector.getObject(offset + i);
+            }
+            array = elements;
+        }
         return array;
     }
 
+    /**
+     * Copies the elements of a FLOAT array without creating element objects.
+     *
+     * @return elements of the array, NULL elements are returned as {@code NaN}
+     * @throws SQLException if the element type is not FLOAT
+     */
+    public float[] getFloatArray() throws SQLException {
+        float[] dst = new float[length];
+        vector.copyFloats(offset, length, dst, 0);
+        return dst;
+    }
+
+    /**
+     * Copies the elements of a DOUBLE or FLOAT array without creating element objects.
+     *
+     * @return elements of the array, NULL elements are returned as {@code NaN}
+     * @throws SQLException if the element type is not DOUBLE or FLOAT
+     */
+    public double[] getDoubleArray() throws SQLException {
+        double[] dst = new double[length];
+        vector.copyDoubles(offset, length, dst, 0);
+        return dst;
+    }
+
+    /**
+     * Copies the elements of an integer or TIMESTAMP array without creating element objects.
+     *
+     * @return elements of the array, NULL elements are returned as {@code 0}
+     * @throws SQLException if the element type cannot be read as long
+     */
+    public long[] getLongArray() throws SQLException {
+        long[] dst = new long[length];
+        vector.copyLongs(offset, length, dst, 0);
+        return dst;
+    }
+
     @Override
     public Object getArray(Map<String, Class<?>> map) throws SQLException {
         return getArray();
@@ -40,14 +79,21 @@ public class DuckDBArray implements Array {
 
     @Override
     public Object getArray(long index, int count) throws SQLException {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'getArray'");
+        int from = sliceOffset(index, count);
+        int sliceLength = sliceLength(from, count);
+        if (null != array) {
+            return Arrays.copyOfRange(array, from, from + sliceLength);
+        }
+        Object[] elements = new Object[sliceLength];
+        for (int i = 0; i < sliceLength; i++) {
+            elements[i] = vector.getObject(offset + from + i);
+        }
+        return elements;
     }
 
     @Override
     public Object getArray(long index, int count, Map<String, Class<?>> map) throws SQLException {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'getArray'");
+        return getArray(index, count);
     }
 
     @Override
@@ -67,24 +113,41 @@ public class DuckDBArray implements Array {
 
     @Override
     public ResultSet getResultSet(Map<String, Class<?>> map) throws SQLException {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'getResultSet'");
+        return getResultSet();
     }
 
     @Override
     public ResultSet getResultSet(long index, int count) throws SQLException {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'getResultSet'");
+        int from = sliceOffset(index, count);
+        return new DuckDBArrayResultSet(vector, offset + from, sliceLength(from, count), from);
     }
 
     @Override
     public ResultSet getResultSet(long index, int count, Map<String, Class<?>> map) throws SQLException {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'getResultSet'");
+        return getResultSet(index, count);
+    }
+
+    // JDBC array indexes are 1-based, a slice may start right after the last element and is then empty
+    private int sliceOffset(long index, int count) throws SQLException {
+        if (index < 1 || index > length + 1L) {
+            throw new SQLException("Array index out of bounds: " + index + ", array length: " + length);
+        }
+        if (count < 0) {
+            throw new SQLException("Invalid array slice count: " + count);
+        }
+        return (int) (index - 1);
+    }
+
+    private int sliceLength(int from, int count) {
+        return Math.min(count, length - from);
     }
 
     @Override
     public String toString() {
-        return Arrays.toString(array);
+        try {
+            return Arrays.toString((Object[]) getArray());
+        } catch (SQLException e) {
+            return e.toString();
+        }
     }
 }
@@ -10,17 +10,26 @@ import java.util.Map;
 
 public class DuckDBArrayResultSet implements ResultSet {
 
+    private static final DuckDBLabelIndex COLUMN_LABELS = new DuckDBLabelIndex(new String[] {"INDEX", "VALUE"}, true);
+
     private DuckDBVector vector;
     int offset, length;
+    // position of the first element within the original array, for slices
+    final int indexOffset;
 
     int currentValueIndex = -1;
     boolean closed = false;
     boolean wasNull = false;
 
     public DuckDBArrayResultSet(DuckDBVector vector, int offset, int length) {
+        this(vector, offset, length, 0);
+    }
+
+    DuckDBArrayResultSet(DuckDBVector vector, int offset, int length, int indexOffset) {
         this.vector = vector;
         this.offset = offset;
         this.length = length;
+        this.indexOffset = indexOffset;
     }
 
     @Override
@@ -57,7 +66,7 @@ public class DuckDBArrayResultSet implements ResultSet {
 
     private int getIndexColumnValue() {
         wasNull = false;
-        return currentValueIndex + 1;
+        return indexOffset + currentValueIndex + 1;
     }
 
     @Override
@@ -277,11 +286,9 @@ public class DuckDBArrayResultSet implements ResultSet {
 
     @Override
     public int findColumn(String columnLabel) throws SQLException {
-        if ("INDEX".equalsIgnoreCase(columnLabel)) {
-            return 1;
-        }
-        if ("VALUE".equalsIgnoreCase(columnLabel)) {
-            return 2;
+        int columnIndex = COLUMN_LABELS.indexOf(columnLabel);
+        if (columnIndex >= 0) {
+            return columnIndex + 1;
         }
         throw new SQLException("Could not find column with label " + columnLabel);
     }
@@ -0,0 +1,321 @@
+package org.duckdb;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Creates objects of a class from the rows of a result, binding the columns to the properties
+ * with the same name.
+ *
+ * <p>Column labels and property names are compared ignoring case and underscores, so the
+ * column {@code user_id} binds to the property {@code userId}. Records are created through
+ * their canonical constructor and every component needs a column. Other classes need a
+ * no-arg constructor, columns are bound to {@code set*} methods or to non-final fields,
+ * columns without a property are skipped.
+ *
+ * <p>The bindings are resolved once for the columns of a result. Every binding keeps a method
+ * handle of the setter adapted to the primitive type of the property, the values are read from
+ * the vectors of the current chunk without boxing. NULL values leave primitive properties of
+ * beans unset, primitive record components receive zero.
+ */
+final class DuckDBBeanMapper<T> implements DuckDBRowMapper<T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    // Class.isRecord and Class.getRecordComponents are only available with Java 16 and newer
+    private static final Method IS_RECORD = findMethod(Class.class, "isRecord");
+    private static final Method RECORD_COMPONENTS = findMethod(Class.class, "getRecordComponents");
+
+    private enum Reader { BOOLEAN, BYTE, SHORT, INT, LONG, FLOAT, DOUBLE, STRING, OBJECT }
+
+    private static final class Binding {
+        // zero-based column index
+        final int column;
+        final Class<?> type;
+        final Reader reader;
+        // value of record components for NULL, zero for primitive types
+        final Object nullValue;
+        // (Object, type) void for bean properties of primitive types, (Object, Object) void
+        // for other bean properties, null for record components
+        final MethodHandle setter;
+
+        Binding(int column, Class<?> type, MethodHandle setter) {
+            this.column = column;
+            this.type = type;
+            this.reader = readerOf(type);
+            this.nullValue = type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+            this.setter = setter;
+        }
+    }
+
+    private final Class<T> type;
+    private final DuckDBResultSetMetaData meta;
+    // () Object for beans, (Object[]) Object for records
+    private final MethodHandle constructor;
+    private final boolean record;
+    private final Binding[] bindings;
+
+    private DuckDBBeanMapper(Class<T> type, DuckDBResultSetMetaData meta, MethodHandle constructor, boolean record,
+                             Binding[] bindings) {
+        this.type = type;
+        this.meta = meta;
+        this.constructor = constructor;
+        this.record = record;
+        this.bindings = bindings;
+    }
+
+    static <T> DuckDBBeanMapper<T> compile(Class<T> type, DuckDBResultSetMetaData meta) throws SQLException {
+        if (type.isPrimitive() || type.isArray() || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            throw new SQLException("Cannot map rows to " + type.getName() + ", a record or a bean class is required");
+        }
+        HashMap<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < meta.column_count; i++) {
+            columns.putIfAbsent(normalize(meta.column_names[i]), i);
+        }
+        try {
+            if (isRecord(type)) {
+                return compileRecord(type, meta, columns);
+            }
+            return compileBean(type, meta, columns);
+        } catch (IllegalAccessException | NoSuchMethodException e) {
+            throw new SQLException("Cannot map rows to " + type.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T map(DuckDBResultSet rs) throws SQLException {
+        DuckDBVector[] chunk = rs.rowVectors(meta);
+        int row = rs.rowInChunk();
+        try {
+            if (record) {
+                Object[] args = new Object[bindings.length];
+                for (int i = 0; i < bindings.length; i++) {
+                    Binding binding = bindings[i];
+                    Object value = read(binding, rs, chunk[binding.column], row);
+                    args[i] = null == value ? binding.nullValue : value;
+                }
+                return (T) constructor.invokeExact(args);
+            }
+            Object target = constructor.invokeExact();
+            for (Binding binding : bindings) {
+                DuckDBVector vec = chunk[binding.column];
+                if (!binding.type.isPrimitive()) {
+                    binding.setter.invokeExact(target, read(binding, rs, vec, row));
+                    continue;
+                }
+                if (vec.check_and_null(row)) {
+                    continue;
+                }
+                switch (binding.reader) {
+                case BOOLEAN:
+                    binding.setter.invokeExact(target, (boolean) vec.getBoolean(row));
+                    break;
+                case BYTE:
+                    binding.setter.invokeExact(target, vec.getByte(row));
+                    break;
+                case SHORT:
+                    binding.setter.invokeExact(target, vec.getShort(row));
+                    break;
+                case INT:
+                    binding.setter.invokeExact(target, vec.getInt(row));
+                    break;
+                case LONG:
+                    binding.setter.invokeExact(target, vec.getLong(row));
+                    break;
+                case FLOAT:
+                    binding.setter.invokeExact(target, vec.getFloat(row));
+                    break;
+                case DOUBLE:
+                    binding.setter.invokeExact(target, vec.getDouble(row));
+                    break;
+                default:
+                    throw new SQLException("Unsupported primitive property type: " + binding.type);
+                }
+            }
+            return (T) target;
+        } catch (SQLException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new SQLException("Failed to map row to " + type.getName(), e);
+        }
+    }
+
+    private static Object read(Binding binding, DuckDBResultSet rs, DuckDBVector vec, int row) throws SQLException {
+        if (vec.check_and_null(row)) {
+            return null;
+        }
+        switch (binding.reader) {
+        case BOOLEAN:
+            return vec.getBoolean(row);
+        case BYTE:
+            return vec.getByte(row);
+        case SHORT:
+            return vec.getShort(row);
+        case INT:
+            return vec.getInt(row);
+        case LONG:
+            return vec.getLong(row);
+        case FLOAT:
+            return vec.getFloat(row);
+        case DOUBLE:
+            return vec.getDouble(row);
+        case STRING:
+            if (vec.duckdb_type == DuckDBColumnType.VARCHAR) {
+                return vec.getLazyString(row);
+            }
+            return rs.getString(binding.column + 1);
+        default:
+            Object value = vec.getObject(row);
+            if (binding.type.isInstance(value)) {
+                return value;
+            }
+            return rs.getObject(binding.column + 1, binding.type);
+        }
+    }
+
+    private static <T> DuckDBBeanMapper<T> compileRecord(Class<T> type, DuckDBResultSetMetaData meta,
+                                                         HashMap<String, Integer> columns)
+        throws SQLException, IllegalAccessException, NoSuchMethodException {
+        Object[] components = (Object[]) invoke(RECORD_COMPONENTS, type);
+        Class<?>[] componentTypes = new Class<?>[components.length];
+        Binding[] bindings = new Binding[components.length];
+        for (int i = 0; i < components.length; i++) {
+            Method getName = components[i].getClass().getMethod("getName");
+            Method getType = components[i].getClass().getMethod("getType");
+            String name = (String) invoke(getName, components[i]);
+            componentTypes[i] = (Class<?>) invoke(getType, components[i]);
+            Integer column = columns.get(normalize(name));
+            if (null == column) {
+                throw new SQLException("Cannot map rows to " + type.getName() + ", no column for the component '" +
+                                       name + "'");
+            }
+            bindings[i] = new Binding(column, componentTypes[i], null);
+        }
+        Constructor<T> ctor = type.getDeclaredConstructor(componentTypes);
+        MethodHandle constructor = LOOKUP.unreflectConstructor(accessible(ctor))
+                                       .asSpreader(Object[].class, components.length)
+                                       .asType(MethodType.methodType(Object.class, Object[].class));
+        return new DuckDBBeanMapper<>(type, meta, constructor, true, bindings);
+    }
+
+    private static <T> DuckDBBeanMapper<T> compileBean(Class<T> type, DuckDBResultSetMetaData meta,
+                                                       HashMap<String, Integer> columns)
+        throws SQLException, IllegalAccessException, NoSuchMethodException {
+        MethodHandle constructor = LOOKUP.unreflectConstructor(accessible(type.getDeclaredConstructor()))
+                                       .asType(MethodType.methodType(Object.class));
+        // setters take precedence over fields with the same name
+        HashMap<String, MethodHandle> setters = new HashMap<>();
+        HashMap<String, Class<?>> setterTypes = new HashMap<>();
+        for (Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1 ||
+                !method.getName().startsWith("set") || method.getName().length() == 3) {
+                continue;
+            }
+            String name = normalize(method.getName().substring(3));
+            if (!columns.containsKey(name) || setters.containsKey(name)) {
+                continue;
+            }
+            setters.put(name, LOOKUP.unreflect(accessible(method)));
+            setterTypes.put(name, method.getParameterTypes()[0]);
+        }
+        for (Class<?> cls = type; null != cls && cls != Object.class; cls = cls.getSuperclass()) {
+            for (Field field : cls.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                String name = normalize(field.getName());
+                if (!columns.containsKey(name) || setters.containsKey(name)) {
+                    continue;
+                }
+                setters.put(name, LOOKUP.unreflectSetter(accessible(field)));
+                setterTypes.put(name, field.getType());
+            }
+        }
+        if (setters.isEmpty()) {
+            throw new SQLException("Cannot map rows to " + type.getName() + ", no column matches its properties");
+        }
+        List<Binding> bindings = new ArrayList<>(setters.size());
+        for (int i = 0; i < meta.column_count; i++) {
+            String name = normalize(meta.column_names[i]);
+            // duplicate labels bind the first column only
+            if (columns.get(name) != i || !setters.containsKey(name)) {
+                continue;
+            }
+            Class<?> propertyType = setterTypes.get(name);
+            Class<?> valueType = propertyType.isPrimitive() ? propertyType : Object.class;
+            MethodHandle setter =
+                setters.get(name).asType(MethodType.methodType(void.class, Object.class, valueType));
+            bindings.add(new Binding(i, propertyType, setter));
+        }
+        return new DuckDBBeanMapper<>(type, meta, constructor, false, bindings.toArray(new Binding[0]));
+    }
+
+    private static Reader readerOf(Class<?> type) {
+        if (type == boolean.class || type == Boolean.class) {
+            return Reader.BOOLEAN;
+        } else if (type == byte.class || type == Byte.class) {
+            return Reader.BYTE;
+        } else if (type == short.class || type == Short.class) {
+            return Reader.SHORT;
+        } else if (type == int.class || type == Integer.class) {
+            return Reader.INT;
+        } else if (type == long.class || type == Long.class) {
+            return Reader.LONG;
+        } else if (type == float.class || type == Float.class) {
+            return Reader.FLOAT;
+        } else if (type == double.class || type == Double.class) {
+            return Reader.DOUBLE;
+        } else if (type == String.class) {
+            return Reader.STRING;
+        }
+        return Reader.OBJECT;
+    }
+
+    private static String normalize(String name) {
+        return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isRecord(Class<?> type) throws SQLException {
+        return null != IS_RECORD && (Boolean) invoke(IS_RECORD, type);
+    }
+
+    // Members of classes that are not public are only reachable after suppressing the access
+    // checks; if that is not allowed, the lookup reports the access error
+    private static <A extends AccessibleObject> A accessible(A member) {
+        try {
+            member.setAccessible(true);
+        } catch (RuntimeException e) {
+            // keep the default access checks
+        }
+        return member;
+    }
+
+    private static Method findMethod(Class<?> cls, String name) {
+        try {
+            return cls.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Object invoke(Method method, Object target) throws SQLException {
+        try {
+            return method.invoke(target);
+        } catch (ReflectiveOperationException e) {
+            throw new SQLException("Cannot read the record components: " + e.getMessage(), e);
+        }
+    }
+}
@@ -166,6 +166,8 @@ public class DuckDBBindings {
 
     static native byte[] duckdb_vector_get_string(ByteBuffer vectorData, long row);
 
+    static native ByteBuffer duckdb_vector_get_string_buffer(ByteBuffer vectorData, long row);
+
     static native ByteBuffer duckdb_list_vector_get_child(ByteBuffer vector);
 
     static native long duckdb_list_vector_get_size(ByteBuffer vector);
@@ -6,14 +6,23 @@ import static org.duckdb.DuckDBBindings.*;
 import java.nio.ByteBuffer;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.Spliterator;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class DuckDBChunkedResult implements AutoCloseable {
     private final DuckDBPreparedStatement stmt;
     private ByteBuffer resultRef;
     private final Lock resultRefLock = new ReentrantLock();
     private DuckDBDataChunkReader currentChunk = null;
+    // chunks fetched by streams that were not consumed yet, destroyed when the result is closed
+    private final Set<DuckDBDataChunkReader> streamChunks = Collections.newSetFromMap(new IdentityHashMap<>());
 
     public DuckDBChunkedResult(DuckDBPreparedStatement stmt, ByteBuffer resultRef) {
         this.stmt = stmt;
@@ -44,6 +53,22 @@ public class DuckDBChunkedResult implements AutoCloseable {
         return currentChunk;
     }
 
+    /**
+     * Returns the remaining chunks of the result as a stream.
+     *
+     * <p>A chunk is destroyed as soon as the stream operation that received it returns, the chunks
+     * must not be collected or passed to the later operations of the pipeline. Chunks are fetched
+     * one at a time under the result lock, a parallel stream hands every fetched chunk to a separate
+     * task, so that the chunks are processed concurrently. The stream does not change the chunk
+     * returned by {@link #chunk()}.
+     *
+     * @return stream of the remaining chunks
+     */
+    public Stream<DuckDBDataChunkReader> stream() {
+        checkOpen();
+        return StreamSupport.stream(new ChunkSpliterator(), false);
+    }
+
     public String columnName(long columnIndex) {
         checkOpen();
         resultRefLock.lock();
@@ -92,6 +117,10 @@ public class DuckDBChunkedResult implements AutoCloseable {
                 return;
             }
             clearCurrentChunk();
+            for (DuckDBDataChunkReader chunk : streamChunks) {
+                chunk.closeAndDestroy();
+            }
+            streamChunks.clear();
             duckdb_destroy_result(resultRef);
             resultRef = null;
         } finally {
@@ -143,6 +172,109 @@ public class DuckDBChunkedResult implements AutoCloseable {
         }
     }
 
+    private DuckDBDataChunkReader fetchStreamChunk() {
+        checkOpen();
+        resultRefLock.lock();
+        try {
+            checkOpen();
+            ByteBuffer chunkRef = duckdb_fetch_chunk(resultRef);
+            if (chunkRef == null) {
+                return null;
+            }
+            DuckDBDataChunkReader chunk = new DuckDBDataChunkReader(chunkRef);
+            streamChunks.add(chunk);
+            return chunk;
+        } finally {
+            resultRefLock.unlock();
+            checkParentConnOpen();
+        }
+    }
+
+    private void consumeStreamChunk(DuckDBDataChunkReader chunk, Consumer<? super DuckDBDataChunkReader> action) {
+        try {
+            action.accept(chunk);
+        } finally {
+            resultRefLock.lock();
+            try {
+                if (streamChunks.remove(chunk)) {
+                    chunk.closeAndDestroy();
+                }
+            } finally {
+                resultRefLock.unlock();
+            }
+        }
+    }
+
+    // Fetches the chunks in order, a split takes the next fetched chunk
+    private final class ChunkSpliterator implements Spliterator<DuckDBDataChunkReader> {
+        private boolean done = false;
+
+        @Override
+        public boolean tryAdvance(Consumer<? super DuckDBDataChunkReader> action) {
+            DuckDBDataChunkReader chunk = done ? null : fetchStreamChunk();
+            if (null == chunk) {
+                done = true;
+                return false;
+            }
+            consumeStreamChunk(chunk, action);
+            return true;
+        }
+
+        @Override
+        public Spliterator<DuckDBDataChunkReader> trySplit() {
+            DuckDBDataChunkReader chunk = done ? null : fetchStreamChunk();
+            if (null == chunk) {
+                done = true;
+                return null;
+            }
+            return new FetchedChunkSpliterator(chunk);
+        }
+
+        @Override
+        public long estimateSize() {
+            return done ? 0 : Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+
+    private final class FetchedChunkSpliterator implements Spliterator<DuckDBDataChunkReader> {
+        private DuckDBDataChunkReader chunk;
+
+        FetchedChunkSpliterator(DuckDBDataChunkReader chunk) {
+            this.chunk = chunk;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super DuckDBDataChunkReader> action) {
+            if (null == chunk) {
+                return false;
+            }
+            DuckDBDataChunkReader next = chunk;
+            chunk = null;
+            consumeStreamChunk(next, action);
+            return true;
+        }
+
+        @Override
+        public Spliterator<DuckDBDataChunkReader> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return null == chunk ? 0 : 1;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | SIZED | SUBSIZED;
+        }
+    }
+
     private void clearCurrentChunk() {
         if (currentChunk != null) {
             currentChunk.closeAndDestroy();
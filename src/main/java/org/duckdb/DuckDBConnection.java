@@ -63,6 +63,19 @@ public final class DuckDBConnection implements java.sql.Connection {
      */
     final long dbAddress;
 
+    /**
+     * Default number of chunks that result sets of this connection fetch ahead on
+     * a background thread (the {@value DuckDBDriver#JDBC_PREFETCH_CHUNKS} property).
+     */
+    final int prefetchChunks;
+
+    /**
+     * Megabytes of chunks that scrollable result sets of this connection keep on the heap
+     * (the {@value DuckDBDriver#JDBC_SCROLL_CACHE_MB} property).
+     */
+    final int scrollCacheMb;
+    static final int DEFAULT_SCROLL_CACHE_MB = 256;
+
     public static DuckDBConnection newConnection(String url, boolean readOnly, Properties properties) throws Exception {
         return newConnection(url, readOnly, null, properties);
     }
@@ -82,19 +95,27 @@ public final class DuckDBConnection implements java.sql.Connection {
         String monitorName = removeOption(properties, DuckDBDriver.JDBC_JFR_MEMORY_MONITOR);
         String instanceCacheStr = removeOption(properties, DuckDBDriver.JDBC_INSTANCE_CACHE);
         boolean instanceCache = isStringTruish(instanceCacheStr, true);
+        String prefetchChunksStr = removeOption(properties, DuckDBDriver.JDBC_PREFETCH_CHUNKS);
+        int prefetchChunks = parseNonNegativeInt(prefetchChunksStr, 0);
+        String scrollCacheMbStr = removeOption(properties, DuckDBDriver.JDBC_SCROLL_CACHE_MB);
+        int scrollCacheMb = parseNonNegativeInt(scrollCacheMbStr, DEFAULT_SCROLL_CACHE_MB);
         ByteBuffer nativeReference =
             DuckDBNative.duckdb_jdbc_startup(dbName.getBytes(UTF_8), readOnly, properties, instanceCache);
-        return new DuckDBConnection(nativeReference, url, readOnly, sessionInitSQL, autoCommit, monitorName);
+        return new DuckDBConnection(nativeReference, url, readOnly, sessionInitSQL, autoCommit, monitorName,
+                                    prefetchChunks, scrollCacheMb);
     }
 
     private DuckDBConnection(ByteBuffer connectionReference, String url, boolean readOnly, String sessionInitSQL,
-                             boolean autoCommit, String monitorName) throws SQLException {
+                             boolean autoCommit, String monitorName, int prefetchChunks, int scrollCacheMb)
+        throws SQLException {
         this.connRef = connectionReference;
         this.url = url;
         this.readOnly = readOnly;
         this.autoCommit = autoCommit;
         this.sessionInitSQL = sessionInitSQL;
         this.monitorName = (monitorName != null && !monitorName.isEmpty()) ? monitorName : null;
+        this.prefetchChunks = prefetchChunks;
+        this.scrollCacheMb = scrollCacheMb;
         this.dbAddress = DuckDBNative.duckdb_jdbc_db_address(connectionReference);
         // Hardcoded 'true' here is intentional, autocommit is handled in stmt#execute()
         DuckDBNative.duckdb_jdbc_set_auto_commit(connectionReference, true);
@@ -106,8 +127,10 @@ public final class DuckDBConnection implements java.sql.Connection {
     public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability)
         throws SQLException {
         checkOpen();
-        if (resultSetConcurrency == ResultSet.CONCUR_READ_ONLY && resultSetType == ResultSet.TYPE_FORWARD_ONLY) {
-            return new DuckDBPreparedStatement(this);
+        if (resultSetConcurrency == ResultSet.CONCUR_READ_ONLY && isSupportedResultSetType(resultSetType)) {
+            DuckDBPreparedStatement stmt = new DuckDBPreparedStatement(this);
+            stmt.resultSetType = resultSetType;
+            return stmt;
         }
         throw new SQLFeatureNotSupportedException("createStatement");
     }
@@ -115,13 +138,22 @@ public final class DuckDBConnection implements java.sql.Connection {
     public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency,
                                               int resultSetHoldability) throws SQLException {
         checkOpen();
-        if ((resultSetConcurrency == ResultSet.CONCUR_READ_ONLY && resultSetType == ResultSet.TYPE_FORWARD_ONLY) ||
-            readOnly) {
-            return new DuckDBPreparedStatement(this, sql);
+        boolean supported =
+            resultSetConcurrency == ResultSet.CONCUR_READ_ONLY && isSupportedResultSetType(resultSetType);
+        if (supported || readOnly) {
+            DuckDBPreparedStatement stmt = new DuckDBPreparedStatement(this, sql);
+            if (resultSetType == ResultSet.TYPE_SCROLL_INSENSITIVE) {
+                stmt.resultSetType = resultSetType;
+            }
+            return stmt;
         }
         throw new SQLFeatureNotSupportedException("prepareStatement");
     }
 
+    static boolean isSupportedResultSetType(int resultSetType) {
+        return resultSetType == ResultSet.TYPE_FORWARD_ONLY || resultSetType == ResultSet.TYPE_SCROLL_INSENSITIVE;
+    }
+
     public Statement createStatement() throws SQLException {
         return createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
     }
@@ -144,7 +176,8 @@ public final class DuckDBConnection implements java.sql.Connection {
         try {
             checkOpen();
             ByteBuffer dupRef = DuckDBNative.duckdb_jdbc_connect(connRef);
-            return new DuckDBConnection(dupRef, url, readOnly, sessionInitSQL, autoCommit, monitorName);
+            return new DuckDBConnection(dupRef, url, readOnly, sessionInitSQL, autoCommit, monitorName,
+                                        prefetchChunks, scrollCacheMb);
         } finally {
             connRefLock.unlock();
         }
@@ -528,6 +561,19 @@ public final class DuckDBConnection implements java.sql.Connection {
         return appender;
     }
 
+    public DuckDBParallelAppender createParallelAppender(String tableName) throws SQLException {
+        return createParallelAppender(null, null, tableName);
+    }
+
+    public DuckDBParallelAppender createParallelAppender(String schemaName, String tableName) throws SQLException {
+        return createParallelAppender(null, schemaName, tableName);
+    }
+
+    public DuckDBParallelAppender createParallelAppender(String catalogName, String schemaName, String tableName)
+        throws SQLException {
+        return new DuckDBParallelAppender(this, catalogName, schemaName, tableName);
+    }
+
     private static long getArrowStreamAddress(Object arrow_array_stream) {
         try {
             Class<?> arrow_array_stream_class = Class.forName("org.apache.arrow.c.ArrowArrayStream");
@@ -1224,12 +1224,12 @@ public class DuckDBDatabaseMetaData implements DatabaseMetaData {
 
     @Override
     public boolean supportsResultSetType(int type) throws SQLException {
-        return type == ResultSet.TYPE_FORWARD_ONLY;
+        return DuckDBConnection.isSupportedResultSetType(type);
     }
 
     @Override
     public boolean supportsResultSetConcurrency(int type, int concurrency) throws SQLException {
-        return type == ResultSet.TYPE_FORWARD_ONLY && concurrency == ResultSet.CONCUR_READ_ONLY;
+        return DuckDBConnection.isSupportedResultSetType(type) && concurrency == ResultSet.CONCUR_READ_ONLY;
     }
 
     @Override
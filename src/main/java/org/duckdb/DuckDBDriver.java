@@ -12,6 +12,8 @@ import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.locks.ReentrantLock;
@@ -28,17 +30,23 @@ public class DuckDBDriver implements java.sql.Driver {
     public static final String DUCKDB_ACCESS_MODE_AUTOMATIC = "AUTOMATIC";
     public static final String DUCKDB_USER_AGENT_PROPERTY = "custom_user_agent";
     public static final String JDBC_STREAM_RESULTS = "jdbc_stream_results";
+    public static final String JDBC_LAZY_STRINGS = "jdbc_lazy_strings";
+    public static final String JDBC_DIRECT_BLOBS = "jdbc_direct_blobs";
     public static final String JDBC_AUTO_COMMIT = "jdbc_auto_commit";
     public static final String JDBC_PIN_DB = "jdbc_pin_db";
     public static final String JDBC_INSTANCE_CACHE = "jdbc_instance_cache";
     public static final String JDBC_IGNORE_UNSUPPORTED_OPTIONS = "jdbc_ignore_unsupported_options";
     public static final String JDBC_JFR_MEMORY_MONITOR = "jdbc_jfr_memory_monitor";
+    public static final String JDBC_PREFETCH_CHUNKS = "jdbc_prefetch_chunks";
+    public static final String JDBC_SCROLL_CACHE_MB = "jdbc_scroll_cache_mb";
 
     static final String DUCKDB_URL_PREFIX = "jdbc:duckdb:";
     static final String MEMORY_DB = ":memory:";
     private static final String DUCKLAKE_URL_PREFIX = DUCKDB_URL_PREFIX + "ducklake:";
 
     static final ScheduledThreadPoolExecutor scheduler;
+    static final ExecutorService prefetchExecutor;
+    static final ExecutorService appenderExecutor;
 
     private static final LinkedHashMap<String, ByteBuffer> pinnedDbRefs = new LinkedHashMap<>();
     private static final ReentrantLock pinnedDbRefsLock = new ReentrantLock();
@@ -74,6 +82,24 @@ public class DuckDBDriver implements java.sql.Driver {
             };
             scheduler = new ScheduledThreadPoolExecutor(1, tf);
             scheduler.setRemoveOnCancelPolicy(true);
+            ThreadFactory prefetchTf = new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread th = new Thread(r, "duckdb-result-prefetch-thread");
+                    th.setDaemon(true);
+                    return th;
+                }
+            };
+            prefetchExecutor = Executors.newCachedThreadPool(prefetchTf);
+            ThreadFactory appenderTf = new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread th = new Thread(r, "duckdb-appender-thread");
+                    th.setDaemon(true);
+                    return th;
+                }
+            };
+            appenderExecutor = Executors.newCachedThreadPool(appenderTf);
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
@@ -167,6 +193,12 @@ public class DuckDBDriver implements java.sql.Driver {
         list.add(createDriverPropInfo(DUCKDB_READONLY_PROPERTY, "", "Set connection to read-only mode"));
         list.add(createDriverPropInfo(DUCKDB_USER_AGENT_PROPERTY, "", "Custom user agent string"));
         list.add(createDriverPropInfo(JDBC_STREAM_RESULTS, "", "Enable result set streaming"));
+        list.add(createDriverPropInfo(JDBC_LAZY_STRINGS, "",
+                                      "Decode VARCHAR values of a result set only when they are accessed"));
+        list.add(createDriverPropInfo(JDBC_DIRECT_BLOBS, "",
+                                      "Return BLOB values of getBlob, getBinaryStream and getBlobBuffer as read-only "
+                                          + "views over the result memory that are only valid until the result set "
+                                          + "moves past the current chunk"));
         list.add(createDriverPropInfo(JDBC_AUTO_COMMIT, "", "Set default auto-commit mode"));
         list.add(createDriverPropInfo(JDBC_PIN_DB, "",
                                       "Do not close the DB instance after all connections to it are closed"));
@@ -182,6 +214,11 @@ public class DuckDBDriver implements java.sql.Driver {
                                      + " in the duckdb.MemoryUsage JFR event. Leave empty to disable monitoring."
                                      + " JFR controls the event's enabled state and period via recording settings."
                                      + " Requires a JFR-capable JVM."));
+        list.add(createDriverPropInfo(JDBC_PREFETCH_CHUNKS, "",
+                                      "Number of result chunks to fetch ahead on a background thread, 0 to disable"));
+        list.add(createDriverPropInfo(JDBC_SCROLL_CACHE_MB, "",
+                                      "Megabytes of result chunks that scrollable result sets keep on the Java heap,"
+                                          + " older chunks are fetched again from the result when needed"));
         list.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
         return list.toArray(new DriverPropertyInfo[0]);
     }
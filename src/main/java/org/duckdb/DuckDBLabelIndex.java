@@ -0,0 +1,62 @@
+package org.duckdb;
+
+import java.util.HashMap;
+
+/**
+ * Hash index over column or attribute names, replaces the linear scans in label-based lookups.
+ *
+ * <p>Duplicate names resolve to the first occurrence, the same as a scan from the first name.
+ * Case-insensitive keys fold every char the way {@link String#equalsIgnoreCase} compares them,
+ * so two names share a key exactly when they are equal ignoring case.
+ */
+final class DuckDBLabelIndex {
+
+    private final boolean ignoreCase;
+    private final HashMap<String, Integer> positions;
+    // names as written that resolve to their own position, looked up without folding the label
+    private final HashMap<String, Integer> exact;
+
+    DuckDBLabelIndex(String[] names, boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        this.positions = new HashMap<>(names.length * 2);
+        this.exact = ignoreCase ? new HashMap<>(names.length * 2) : positions;
+        for (int i = 0; i < names.length; i++) {
+            if (null == positions.putIfAbsent(key(names[i]), i) && ignoreCase) {
+                exact.putIfAbsent(names[i], i);
+            }
+        }
+    }
+
+    /**
+     * @param name column or attribute name
+     * @return zero-based position of the first matching name, {@code -1} if there is none
+     */
+    int indexOf(String name) {
+        if (null == name) {
+            return -1;
+        }
+        Integer pos = exact.get(name);
+        if (null == pos && ignoreCase) {
+            pos = positions.get(key(name));
+        }
+        return null != pos ? pos : -1;
+    }
+
+    private String key(String name) {
+        if (!ignoreCase) {
+            return name;
+        }
+        char[] folded = null;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            char f = Character.toLowerCase(Character.toUpperCase(c));
+            if (f != c) {
+                if (null == folded) {
+                    folded = name.toCharArray();
+                }
+                folded[i] = f;
+            }
+        }
+        return null == folded ? name : new String(folded);
+    }
+}
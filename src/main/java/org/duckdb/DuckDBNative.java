@@ -189,7 +189,13 @@ final class DuckDBNative {
 
     static native void duckdb_jdbc_free_result(ByteBuffer res_ref);
 
-    static native DuckDBVector[] duckdb_jdbc_fetch(ByteBuffer res_ref, ByteBuffer conn_ref) throws SQLException;
+    // fetch_size > 0 concatenates chunks to return at least fetch_size rows at once
+    static native DuckDBVector[] duckdb_jdbc_fetch(ByteBuffer res_ref, ByteBuffer conn_ref, int fetch_size)
+        throws SQLException;
+
+    // random access to the chunks of a materialized result, returns null for streaming results
+    static native DuckDBVector[] duckdb_jdbc_fetch_chunk_at(ByteBuffer res_ref, ByteBuffer conn_ref, long chunk_idx)
+        throws SQLException;
 
     static native String[] duckdb_jdbc_cast_result_to_strings(ByteBuffer res_ref, ByteBuffer conn_ref, long col_idx)
         throws SQLException;
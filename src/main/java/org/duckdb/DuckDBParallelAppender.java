@@ -0,0 +1,394 @@
+package org.duckdb;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appends rows to a table from many threads at once.
+ *
+ * <p>Every producer thread appends to its own {@link DuckDBAppender} on a duplicate of the
+ * connection, so the threads do not contend on a single appender. The rows are held in the
+ * transactions of the duplicate connections until {@link #commit()} flushes all the appenders
+ * and then commits the transactions one after another, in the order in which the threads
+ * started appending. If a flush fails, the rows of all the threads since the previous commit
+ * are rolled back. If a commit fails, the transactions after it are rolled back and the ones
+ * before it stay committed.
+ *
+ * <p>If a {@link RowsWriter} fails, only the rows appended by its thread since the previous
+ * commit are rolled back, the rows of the other threads are kept.
+ *
+ * <p>Once the rows that are not committed reach {@link #setMaxPendingRows(long)}, the thread
+ * that appended the last of them commits them all. The other producers wait until that commit
+ * completes before they append again.
+ *
+ * <p>The parallel appender must be closed before the connection it was created from.
+ */
+public class DuckDBParallelAppender implements AutoCloseable {
+
+    @FunctionalInterface
+    public interface RowsWriter {
+        /**
+         * Appends complete rows with the appender of the current thread.
+         *
+         * @param appender appender of the current thread, must not be flushed or closed
+         * @throws SQLException when the rows cannot be appended
+         */
+        void write(DuckDBAppender appender) throws SQLException;
+    }
+
+    private final DuckDBConnection conn;
+
+    private final String catalog;
+    private final String schema;
+    private final String table;
+
+    private final ThreadLocal<Worker> threadWorker = new ThreadLocal<>();
+    // guarded by itself, in the order of creation
+    private final List<Worker> workers = new ArrayList<>();
+    private final Lock commitLock = new ReentrantLock();
+    private volatile boolean closed = false;
+
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong appendedRows = new AtomicLong();
+    private final AtomicLong pendingRows = new AtomicLong();
+    private final AtomicLong committedRows = new AtomicLong();
+    private volatile long maxPendingRows = 0;
+
+    DuckDBParallelAppender(DuckDBConnection conn, String catalog, String schema, String table) throws SQLException {
+        conn.checkOpen();
+        this.conn = conn;
+        this.catalog = catalog;
+        this.schema = schema;
+        this.table = table;
+    }
+
+    public DuckDBParallelAppender appendColumns(int rowCount, Object... columnValues) throws SQLException {
+        return appendRows(appender -> appender.appendColumns(rowCount, columnValues));
+    }
+
+    public DuckDBParallelAppender appendColumns(int rowCount, Object[] columnValues, boolean[][] nullMasks)
+        throws SQLException {
+        return appendRows(appender -> appender.appendColumns(rowCount, columnValues, nullMasks));
+    }
+
+    /**
+     * Appends rows with the appender of the current thread, which is created on the first call
+     * of the thread.
+     *
+     * @param writer appends complete rows, its appender must not be used after it returns
+     * @return this parallel appender
+     * @throws SQLException if the rows cannot be appended or committed
+     */
+    public DuckDBParallelAppender appendRows(RowsWriter writer) throws SQLException {
+        Worker worker = currentWorker();
+        long rows;
+        worker.lock.lock();
+        try {
+            checkOpen();
+            long appendedBefore = worker.appender.appendedRows();
+            try {
+                writer.write(worker.appender);
+            } catch (Throwable e) {
+                // the appender may be left in the middle of a row
+                discardWorker(worker, e);
+                throw e;
+            }
+            rows = worker.appender.appendedRows() - appendedBefore;
+            worker.pendingRows += rows;
+        } finally {
+            worker.lock.unlock();
+        }
+        appendedRows.addAndGet(rows);
+        long pending = pendingRows.addAndGet(rows);
+        long max = maxPendingRows;
+        if (max > 0 && pending >= max) {
+            commit();
+        }
+        return this;
+    }
+
+    /**
+     * Flushes the appenders of all threads and commits their rows.
+     *
+     * @return number of rows committed
+     * @throws SQLException if the rows cannot be flushed or committed
+     */
+    public long commit() throws SQLException {
+        commitLock.lock();
+        try {
+            checkOpen();
+            List<Worker> snapshot;
+            synchronized (workers) {
+                snapshot = new ArrayList<>(workers);
+            }
+            return commitWorkers(snapshot);
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        commitLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            List<Worker> snapshot;
+            synchronized (workers) {
+                closed = true;
+                snapshot = new ArrayList<>(workers);
+                workers.clear();
+            }
+            SQLException error = null;
+            try {
+                commitWorkers(snapshot);
+            } catch (SQLException e) {
+                error = e;
+            }
+            for (Worker worker : snapshot) {
+                worker.lock.lock();
+                try {
+                    worker.close();
+                } catch (SQLException e) {
+                    if (null == error) {
+                        error = e;
+                    } else {
+                        error.addSuppressed(e);
+                    }
+                } finally {
+                    worker.lock.unlock();
+                }
+            }
+            if (null != error) {
+                throw error;
+            }
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    // options
+
+    public long getMaxPendingRows() {
+        return maxPendingRows;
+    }
+
+    /**
+     * @param rows number of rows appended and not committed at which they are committed,
+     *        {@code 0} to commit on explicit calls to {@link #commit()} only
+     * @return this parallel appender
+     * @throws SQLException if the number of rows is negative
+     */
+    public DuckDBParallelAppender setMaxPendingRows(long rows) throws SQLException {
+        if (rows < 0) {
+            throw new SQLException(createErrMsg("invalid max pending rows: " + rows));
+        }
+        this.maxPendingRows = rows;
+        return this;
+    }
+
+    // statistics
+
+    public long getAppendedRows() {
+        return appendedRows.get();
+    }
+
+    public long getPendingRows() {
+        return pendingRows.get();
+    }
+
+    public long getCommittedRows() {
+        return committedRows.get();
+    }
+
+    /**
+     * @return rows appended by all threads per second since the parallel appender was created
+     */
+    public double getRowsPerSecond() {
+        long nanos = Math.max(System.nanoTime() - startNanos, 1);
+        return appendedRows.get() * 1_000_000_000.0 / nanos;
+    }
+
+    public int getThreadsCount() {
+        synchronized (workers) {
+            return workers.size();
+        }
+    }
+
+    private long commitWorkers(List<Worker> snapshot) throws SQLException {
+        for (Worker worker : snapshot) {
+            worker.lock.lock();
+        }
+        try {
+            long rows = 0;
+            for (Worker worker : snapshot) {
+                rows += worker.pendingRows;
+            }
+            if (0 == rows) {
+                return 0;
+            }
+            try {
+                for (Worker worker : snapshot) {
+                    if (!worker.broken) {
+                        worker.appender.flush();
+                    }
+                }
+            } catch (SQLException e) {
+                rollbackWorkers(snapshot, 0, e);
+                throw e;
+            }
+            for (int i = 0; i < snapshot.size(); i++) {
+                Worker worker = snapshot.get(i);
+                if (0 == worker.pendingRows || worker.broken) {
+                    continue;
+                }
+                try {
+                    worker.execute("COMMIT");
+                } catch (SQLException e) {
+                    rollbackWorkers(snapshot, i, e);
+                    throw e;
+                }
+                committedRows.addAndGet(worker.pendingRows);
+                pendingRows.addAndGet(-worker.pendingRows);
+                worker.pendingRows = 0;
+                try {
+                    worker.execute("BEGIN TRANSACTION");
+                } catch (SQLException e) {
+                    worker.broken = true;
+                    throw e;
+                }
+            }
+            return rows;
+        } finally {
+            for (Worker worker : snapshot) {
+                worker.lock.unlock();
+            }
+        }
+    }
+
+    private void rollbackWorkers(List<Worker> snapshot, int fromIdx, SQLException cause) {
+        for (int i = fromIdx; i < snapshot.size(); i++) {
+            discardWorker(snapshot.get(i), cause);
+        }
+    }
+
+    // rolls back the rows of the worker since the previous commit, the worker must be locked
+    private void discardWorker(Worker worker, Throwable cause) {
+        pendingRows.addAndGet(-worker.pendingRows);
+        worker.pendingRows = 0;
+        try {
+            worker.reset();
+        } catch (SQLException e) {
+            worker.broken = true;
+            cause.addSuppressed(e);
+        }
+    }
+
+    private Worker currentWorker() throws SQLException {
+        Worker worker = threadWorker.get();
+        if (null != worker && !worker.broken) {
+            return worker;
+        }
+        checkOpen();
+        if (null != worker) {
+            // a worker that could not start a new transaction is replaced, its rows were rolled back
+            synchronized (workers) {
+                workers.remove(worker);
+            }
+            worker.lock.lock();
+            try {
+                worker.close();
+            } catch (SQLException e) {
+                // suppress
+            } finally {
+                worker.lock.unlock();
+            }
+        }
+        Worker created = new Worker(conn.duplicate());
+        synchronized (workers) {
+            if (!closed) {
+                workers.add(created);
+                threadWorker.set(created);
+                return created;
+            }
+        }
+        created.close();
+        throw new SQLException(createErrMsg("parallel appender was closed"));
+    }
+
+    private void checkOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException(createErrMsg("parallel appender was closed"));
+        }
+    }
+
+    private String createErrMsg(String error) {
+        return "Parallel appender error"
+            + ", catalog: '" + catalog + "'"
+            + ", schema: '" + schema + "'"
+            + ", table: '" + table + "'"
+            + ", message: " + (null != error ? error : "N/A");
+    }
+
+    private final class Worker {
+        private final DuckDBConnection conn;
+        private final Lock lock = new ReentrantLock();
+        private DuckDBAppender appender;
+        // guarded by lock
+        private long pendingRows = 0;
+        private volatile boolean broken = false;
+
+        private Worker(DuckDBConnection conn) throws SQLException {
+            this.conn = conn;
+            try {
+                execute("BEGIN TRANSACTION");
+                this.appender = createAppender();
+            } catch (SQLException e) {
+                conn.close();
+                throw e;
+            }
+        }
+
+        private DuckDBAppender createAppender() throws SQLException {
+            DuckDBAppender created = conn.createAppender(catalog, schema, table);
+            // access is serialized with the lock of the worker
+            created.unsafeBreakThreadConfinement();
+            return created;
+        }
+
+        private void execute(String sql) throws SQLException {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(sql);
+            }
+        }
+
+        private void reset() throws SQLException {
+            appender.close();
+            try {
+                execute("ROLLBACK");
+            } catch (SQLException e) {
+                // the failed commit already ended the transaction
+            }
+            execute("BEGIN TRANSACTION");
+            this.appender = createAppender();
+        }
+
+        private void close() throws SQLException {
+            try {
+                appender.close();
+            } finally {
+                conn.close();
+            }
+        }
+    }
+}
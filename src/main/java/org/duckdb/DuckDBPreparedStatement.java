@@ -69,6 +69,10 @@ public class DuckDBPreparedStatement implements PreparedStatement {
     private final Boolean isPreparedStatement;
     private int queryTimeoutSeconds = 0;
     private ScheduledFuture<?> cancelQueryFuture = null;
+    int prefetchChunks;
+    int fetchSize = 0;
+    // TYPE_SCROLL_INSENSITIVE result sets keep the fetched chunks to move back and forth
+    int resultSetType = ResultSet.TYPE_FORWARD_ONLY;
 
     public DuckDBPreparedStatement(DuckDBConnection conn) throws SQLException {
         if (conn == null) {
@@ -76,6 +80,7 @@ public class DuckDBPreparedStatement implements PreparedStatement {
         }
         this.conn = conn;
         this.isPreparedStatement = false;
+        this.prefetchChunks = conn.prefetchChunks;
     }
 
     public DuckDBPreparedStatement(DuckDBConnection conn, String sql) throws SQLException {
@@ -87,6 +92,7 @@ public class DuckDBPreparedStatement implements PreparedStatement {
         }
         this.conn = conn;
         this.isPreparedStatement = true;
+        this.prefetchChunks = conn.prefetchChunks;
         prepare(sql);
     }
 
@@ -672,12 +678,36 @@ public class DuckDBPreparedStatement implements PreparedStatement {
     @Override
     public void setFetchSize(int rows) throws SQLException {
         checkOpen();
+        if (rows < 0) {
+            throw new SQLException("Fetch size has to be >= 0");
+        }
+        this.fetchSize = rows;
     }
 
     @Override
     public int getFetchSize() throws SQLException {
         checkOpen();
-        return DuckDBNative.duckdb_jdbc_fetch_size();
+        return fetchSize > 0 ? fetchSize : DuckDBNative.duckdb_jdbc_fetch_size();
+    }
+
+    /**
+     * Sets the number of chunks that result sets created by this statement fetch
+     * ahead on a background thread, overrides the connection-level
+     * {@value DuckDBDriver#JDBC_PREFETCH_CHUNKS} property.
+     *
+     * @param chunks number of chunks, {@code 0} disables the prefetching
+     */
+    public void setPrefetchChunks(int chunks) throws SQLException {
+        checkOpen();
+        if (chunks < 0) {
+            throw new SQLException("Invalid negative number of prefetch chunks: " + chunks);
+        }
+        this.prefetchChunks = chunks;
+    }
+
+    public int getPrefetchChunks() throws SQLException {
+        checkOpen();
+        return prefetchChunks;
     }
 
     @Override
@@ -689,7 +719,7 @@ public class DuckDBPreparedStatement implements PreparedStatement {
     @Override
     public int getResultSetType() throws SQLException {
         checkOpen();
-        return ResultSet.TYPE_FORWARD_ONLY;
+        return resultSetType;
     }
 
     @Override
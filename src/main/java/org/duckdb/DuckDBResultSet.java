@@ -29,8 +29,15 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class DuckDBResultSet implements ResultSet {
     private final DuckDBConnection conn;
@@ -47,6 +54,28 @@ public class DuckDBResultSet implements ResultSet {
     private int chunkIdx = 0;
     private boolean finished = false;
     private boolean wasNull;
+    // read by the prefetch task
+    private volatile int fetchSize;
+
+    /**
+     * Chunks fetched ahead by the background prefetch task, contains either a
+     * {@code DuckDBVector[]} (empty array marks the end of the result) or the
+     * {@code SQLException} thrown by the fetch. {@code null} if prefetching is disabled.
+     */
+    private final BlockingQueue<Object> prefetchQueue;
+    // the consumer re-checks that the result is open and the prefetch task is running in this interval
+    private static final long PREFETCH_POLL_MILLIS = 100;
+    private Future<?> prefetchTask = null;
+
+    /**
+     * Chunks of a {@code TYPE_SCROLL_INSENSITIVE} result set, {@code null} for
+     * forward-only result sets. The cursor is then tracked by {@code row}.
+     */
+    private final DuckDBScrollCache scrollCache;
+    // number of the current row, 0 before the first row, row count + 1 after the last row
+    private int row = 0;
+    private boolean scrollRandomAccess = true;
+    private int fetchDirection = ResultSet.FETCH_FORWARD;
 
     public DuckDBResultSet(DuckDBConnection conn, DuckDBPreparedStatement stmt, DuckDBResultSetMetaData meta,
                            ByteBuffer resultRef) throws SQLException {
@@ -58,6 +87,29 @@ public class DuckDBResultSet implements ResultSet {
         } catch (NullPointerException e) {
             throw new SQLException(e);
         }
+        this.fetchSize = stmt.fetchSize;
+        boolean scrollable = stmt.resultSetType == ResultSet.TYPE_SCROLL_INSENSITIVE;
+        if (scrollable && meta.return_type == StatementReturnType.QUERY_RESULT) {
+            long limitBytes = conn.scrollCacheMb * 1024L * 1024L;
+            this.scrollCache = new DuckDBScrollCache(new DuckDBScrollCache.ChunkSource() {
+                @Override
+                public DuckDBVector[] fetchChunk(int chunkNo) throws SQLException {
+                    return fetchScrollChunk(chunkNo);
+                }
+
+                @Override
+                public boolean isRandomAccess() {
+                    return scrollRandomAccess;
+                }
+            }, limitBytes);
+        } else {
+            this.scrollCache = null;
+        }
+        if (!scrollable && stmt.prefetchChunks > 0 && meta.return_type == StatementReturnType.QUERY_RESULT) {
+            this.prefetchQueue = new ArrayBlockingQueue<>(stmt.prefetchChunks);
+        } else {
+            this.prefetchQueue = null;
+        }
     }
 
     public Statement getStatement() throws SQLException {
@@ -72,6 +124,9 @@ public class DuckDBResultSet implements ResultSet {
 
     public boolean next() throws SQLException {
         checkOpen();
+        if (null != scrollCache) {
+            return moveTo(row + 1);
+        }
         if (finished) {
             return false;
         }
@@ -96,6 +151,10 @@ public class DuckDBResultSet implements ResultSet {
             if (isClosed()) {
                 return;
             }
+            releaseChunk();
+            if (null != scrollCache) {
+                scrollCache.clear();
+            }
             DuckDBNative.duckdb_jdbc_free_result(resultRef);
             // Nullness is used to determine whether we're closed
             resultRef = null;
@@ -103,6 +162,15 @@ public class DuckDBResultSet implements ResultSet {
             resultRefLock.unlock();
         }
 
+        // Unblock the prefetch task if it waits for the space in the queue,
+        // it stops on the next fetch attempt because the result is closed.
+        if (null != prefetchQueue) {
+            if (null != prefetchTask) {
+                prefetchTask.cancel(false);
+            }
+            prefetchQueue.clear();
+        }
+
         // isCloseOnCompletion() throws if already closed, and we can't check for isClosed() because it could change
         // between when we check and call isCloseOnCompletion, so access the field directly.
         if (stmt.closeOnCompletion) {
@@ -207,42 +275,51 @@ public class DuckDBResultSet implements ResultSet {
         Object res = getObject(columnIndex);
         if (res == null) {
             return null;
-        } else {
-            DuckDBColumnType sqlType = meta.column_types[columnIndex - 1];
-            switch (sqlType) {
-            case BLOB:
-            case GEOMETRY:
-            case LIST:
-            case STRUCT:
-            case MAP:
-            case ARRAY:
-            case UNKNOWN:
-            case UNION: {
-                DuckDBVector vec = currentChunk[columnIndex - 1];
-                if (vec.string_data == null) {
-                    conn.connRefLock.lock();
-                    try {
-                        conn.checkOpen();
-                        resultRefLock.lock();
-                        try {
-                            checkOpen();
-                            if (vec.string_data == null) {
-                                vec.string_data = DuckDBNative.duckdb_jdbc_cast_result_to_strings(
-                                    resultRef, conn.connRef, columnIndex - 1);
-                            }
-                        } finally {
-                            resultRefLock.unlock();
-                        }
-                    } finally {
-                        conn.connRefLock.unlock();
+        }
+        DuckDBColumnType sqlType = meta.column_types[columnIndex - 1];
+        if (!isCastToStrings(sqlType)) {
+            return res.toString();
+        }
+        DuckDBVector vec = currentChunk[columnIndex - 1];
+        if (vec.string_data == null && vec.isRetained()) {
+            // retained chunks no longer refer to the native chunk, the string is built from the vector
+            return vec.castToString(chunkIdx - 1);
+        }
+        if (vec.string_data == null) {
+            conn.connRefLock.lock();
+            try {
+                conn.checkOpen();
+                resultRefLock.lock();
+                try {
+                    checkOpen();
+                    if (vec.string_data == null) {
+                        vec.string_data =
+                            DuckDBNative.duckdb_jdbc_cast_result_to_strings(resultRef, conn.connRef, columnIndex - 1);
                     }
+                } finally {
+                    resultRefLock.unlock();
                 }
-                return vec.string_data[chunkIdx - 1];
-            }
-            default:
-                return res.toString();
+            } finally {
+                conn.connRefLock.unlock();
             }
         }
+        return vec.string_data[chunkIdx - 1];
+    }
+
+    private static boolean isCastToStrings(DuckDBColumnType sqlType) {
+        switch (sqlType) {
+        case BLOB:
+        case GEOMETRY:
+        case LIST:
+        case STRUCT:
+        case MAP:
+        case ARRAY:
+        case UNKNOWN:
+        case UNION:
+            return true;
+        default:
+            return false;
+        }
     }
 
     public boolean getBoolean(int columnIndex) throws SQLException {
@@ -336,16 +413,266 @@ public class DuckDBResultSet implements ResultSet {
         return currentChunk[columnIndex - 1].getDouble(chunkIdx - 1);
     }
 
+    /**
+     * Moves the cursor to the first row of the next chunk of the result set,
+     * remaining rows of the current chunk are skipped.
+     *
+     * @return {@code false} if there are no more rows in the result set
+     */
+    public boolean nextChunk() throws SQLException {
+        checkOpen();
+        if (null != scrollCache) {
+            return moveTo(currentChunk.length == 0 ? row + 1 : row - chunkIdx + currentChunk[0].length + 1);
+        }
+        if (finished) {
+            return false;
+        }
+        currentChunk = fetchChunk();
+        chunkIdx = 1;
+        if (currentChunk.length == 0) {
+            finished = true;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return number of rows in the chunk the cursor is positioned on,
+     *         {@code 0} if the cursor is not on a row
+     */
+    public int getChunkRowCount() throws SQLException {
+        checkOpen();
+        if (currentChunk.length == 0) {
+            return 0;
+        }
+        return currentChunk[0].length;
+    }
+
+    /**
+     * Copies all values of the specified column in the current chunk into the
+     * destination array. NULL values are written as {@code 0}.
+     *
+     * @param columnIndex BIGINT, TIMESTAMP or narrower integer column
+     * @param dst destination array, must have space for {@link #getChunkRowCount()} values after offset
+     * @param offset position in dst to write the first value to
+     * @return number of values written
+     */
+    public int readLongColumn(int columnIndex, long[] dst, int offset) throws SQLException {
+        DuckDBVector vec = chunkVector(columnIndex, dst.length, offset);
+        vec.copyLongs(0, vec.length, dst, offset);
+        return vec.length;
+    }
+
+    /**
+     * Copies all values of the specified column in the current chunk into the
+     * destination array. NULL values are written as {@code 0}.
+     *
+     * @param columnIndex INTEGER, DATE (as epoch days) or narrower integer column
+     * @param dst destination array, must have space for {@link #getChunkRowCount()} values after offset
+     * @param offset position in dst to write the first value to
+     * @return number of values written
+     */
+    public int readIntColumn(int columnIndex, int[] dst, int offset) throws SQLException {
+        DuckDBVector vec = chunkVector(columnIndex, dst.length, offset);
+        vec.copyInts(0, vec.length, dst, offset);
+        return vec.length;
+    }
+
+    /**
+     * Copies all values of the specified column in the current chunk into the
+     * destination array. NULL values are written as {@code NaN}.
+     *
+     * @param columnIndex DOUBLE or FLOAT column
+     * @param dst destination array, must have space for {@link #getChunkRowCount()} values after offset
+     * @param offset position in dst to write the first value to
+     * @return number of values written
+     */
+    public int readDoubleColumn(int columnIndex, double[] dst, int offset) throws SQLException {
+        DuckDBVector vec = chunkVector(columnIndex, dst.length, offset);
+        vec.copyDoubles(0, vec.length, dst, offset);
+        return vec.length;
+    }
+
+    /**
+     * Copies all values of the specified column in the current chunk into the
+     * destination array. NULL values are written as {@code NaN}.
+     *
+     * @param columnIndex FLOAT column
+     * @param dst destination array, must have space for {@link #getChunkRowCount()} values after offset
+     * @param offset position in dst to write the first value to
+     * @return number of values written
+     */
+    public int readFloatColumn(int columnIndex, float[] dst, int offset) throws SQLException {
+        DuckDBVector vec = chunkVector(columnIndex, dst.length, offset);
+        vec.copyFloats(0, vec.length, dst, offset);
+        return vec.length;
+    }
+
+    /**
+     * Sets the bits of the NULL values of the specified column in the current
+     * chunk, bits of non-NULL values are cleared.
+     *
+     * @param columnIndex column of any type
+     * @param dst destination bitmap
+     * @param offset bit index in dst that corresponds to the first row of the chunk
+     * @return number of rows in the chunk
+     */
+    public int readNullMask(int columnIndex, BitSet dst, int offset) throws SQLException {
+        DuckDBVector vec = chunkVector(columnIndex, Integer.MAX_VALUE, offset);
+        vec.copyNulls(0, vec.length, dst, offset);
+        return vec.length;
+    }
+
+    private DuckDBVector chunkVector(int columnIndex, int dstLength, int offset) throws SQLException {
+        check(columnIndex);
+        if (currentChunk.length == 0) {
+            throw new SQLException("No chunk in context");
+        }
+        DuckDBVector vec = currentChunk[columnIndex - 1];
+        if (offset < 0 || dstLength - offset < vec.length) {
+            throw new SQLException("Destination is too small for " + vec.length + " values at offset " + offset);
+        }
+        return vec;
+    }
+
     public int findColumn(String columnLabel) throws SQLException {
         checkOpen();
-        for (int col_idx = 0; col_idx < meta.column_count; col_idx++) {
-            if (meta.column_names[col_idx].equalsIgnoreCase(columnLabel)) {
-                return col_idx + 1;
-            }
+        int columnIndex = meta.findColumn(columnLabel);
+        if (columnIndex > 0) {
+            return columnIndex;
         }
         throw new SQLException("Could not find column with label " + columnLabel);
     }
 
+    /**
+     * Creates an object of the class from the current row.
+     *
+     * <p>Columns are bound to the record components, setters or fields with the same name, compared
+     * ignoring case and underscores. The bindings are resolved on the first call for the class and
+     * reused for the following rows. Reading the row this way does not update {@link #wasNull()}.
+     *
+     * @param type record or bean class with a no-arg constructor
+     * @param <T> type of the created object
+     * @return object created from the current row
+     * @throws SQLException if the class cannot be mapped or there is no current row
+     */
+    public <T> T mapTo(Class<T> type) throws SQLException {
+        return rowMapper(type).map(this);
+    }
+
+    /**
+     * Returns the mapper used by {@link #mapTo(Class)}, it can be applied to every row of this
+     * result set without looking it up for each row.
+     *
+     * @param type record or bean class with a no-arg constructor
+     * @param <T> type of the created objects
+     * @return mapper bound to the columns of this result set
+     * @throws SQLException if the class cannot be mapped
+     */
+    public <T> DuckDBRowMapper<T> rowMapper(Class<T> type) throws SQLException {
+        checkOpen();
+        if (null == type) {
+            throw new SQLException("type is null");
+        }
+        return meta.rowMapper(type);
+    }
+
+    /**
+     * Returns the remaining rows of the result set as a stream of mapped objects.
+     *
+     * <p>The stream moves the cursor of the result set, which must not be used while the stream is
+     * consumed. Rows are fetched and mapped in order, a parallel stream splits off the mapped rows
+     * of whole chunks, so that the following operations of the pipeline process the chunks
+     * concurrently. Closing the stream closes the result set. {@link SQLException}s thrown while the
+     * stream is consumed are wrapped into {@link IllegalStateException}.
+     *
+     * @param mapper mapper for the current row, for example {@link #rowMapper(Class)}
+     * @param <T> type of the mapped objects
+     * @return stream of the remaining rows
+     * @throws SQLException if the result set is closed
+     */
+    public <T> Stream<T> stream(DuckDBRowMapper<T> mapper) throws SQLException {
+        checkOpen();
+        Objects.requireNonNull(mapper, "mapper");
+        return StreamSupport.stream(new RowSpliterator<>(mapper), false).onClose(() -> {
+            try {
+                close();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private final class RowSpliterator<T> implements Spliterator<T> {
+        private final DuckDBRowMapper<T> mapper;
+        private boolean done = false;
+
+        RowSpliterator(DuckDBRowMapper<T> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            try {
+                if (done || !next()) {
+                    done = true;
+                    return false;
+                }
+                action.accept(mapper.map(DuckDBResultSet.this));
+                return true;
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // maps the rest of the current chunk, or the next chunk if all its rows were read
+        @Override
+        @SuppressWarnings("unchecked")
+        public Spliterator<T> trySplit() {
+            try {
+                if (done || !next()) {
+                    done = true;
+                    return null;
+                }
+                Object[] rows = new Object[currentChunk[0].length - chunkIdx + 1];
+                int count = 0;
+                rows[count++] = mapper.map(DuckDBResultSet.this);
+                while (count < rows.length && next()) {
+                    rows[count++] = mapper.map(DuckDBResultSet.this);
+                }
+                return (Spliterator<T>) Spliterators.spliterator(rows, 0, count, ORDERED);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return done ? 0 : Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED;
+        }
+    }
+
+    // Vectors of the current row, for mappers that read the cells without the per-column checks
+    DuckDBVector[] rowVectors(DuckDBResultSetMetaData expectedMeta) throws SQLException {
+        checkOpen();
+        if (expectedMeta != meta) {
+            throw new SQLException("Row mapper was created for a different result set");
+        }
+        if (currentChunk.length == 0 || chunkIdx < 1 || chunkIdx > currentChunk[0].length) {
+            throw new SQLException("No row in context");
+        }
+        return currentChunk;
+    }
+
+    int rowInChunk() {
+        return chunkIdx - 1;
+    }
+
     public String getString(String columnLabel) throws SQLException {
         return getString(findColumn(columnLabel));
     }
@@ -414,6 +741,49 @@ public class DuckDBResultSet implements ResultSet {
         return currentChunk[columnIndex - 1].getTimestamp(chunkIdx - 1);
     }
 
+    /**
+     * Reads a DATE or TIMESTAMP value as a number without creating date time objects.
+     *
+     * <p>For TIMESTAMPTZ the value is the instant, for the other TIMESTAMP types the wall clock time
+     * as UTC, DATE values are the midnight of the day. Values in seconds or milliseconds are scaled,
+     * values in nanoseconds are truncated towards negative infinity.
+     *
+     * @param columnIndex column index, starting from 1
+     * @return microseconds since the epoch, {@code 0} for NULL
+     * @throws SQLException if the column is not a DATE or TIMESTAMP
+     */
+    public long getEpochMicros(int columnIndex) throws SQLException {
+        if (checkAndNull(columnIndex)) {
+            return 0;
+        }
+        return currentChunk[columnIndex - 1].getEpochMicros(chunkIdx - 1);
+    }
+
+    public long getEpochMicros(String columnLabel) throws SQLException {
+        return getEpochMicros(findColumn(columnLabel));
+    }
+
+    /**
+     * Reads the date of a DATE or TIMESTAMP value as a number without creating date objects.
+     *
+     * <p>For TIMESTAMPTZ the date is the UTC date of the instant, for the other TIMESTAMP types the
+     * date of the wall clock time.
+     *
+     * @param columnIndex column index, starting from 1
+     * @return days since the epoch, {@code 0} for NULL
+     * @throws SQLException if the column is not a DATE or TIMESTAMP
+     */
+    public int getEpochDays(int columnIndex) throws SQLException {
+        if (checkAndNull(columnIndex)) {
+            return 0;
+        }
+        return currentChunk[columnIndex - 1].getEpochDays(chunkIdx - 1);
+    }
+
+    public int getEpochDays(String columnLabel) throws SQLException {
+        return getEpochDays(findColumn(columnLabel));
+    }
+
     private LocalDateTime getLocalDateTime(int columnIndex) throws SQLException {
         if (checkAndNull(columnIndex)) {
             return null;
@@ -500,6 +870,31 @@ public class DuckDBResultSet implements ResultSet {
             return buffer.capacity();
         }
 
+        /**
+         * Returns a read-only view over the blob bytes, with the {@code jdbc_direct_blobs} option
+         * it is only valid until the result set moves past the current chunk.
+         *
+         * @return read-only view over the blob bytes
+         */
+        public ByteBuffer getByteBuffer() {
+            ByteBuffer view = buffer.asReadOnlyBuffer();
+            view.position(0);
+            return view;
+        }
+
+        /**
+         * Copies the blob bytes to the heap, so they remain readable after the result set
+         * moves on when the {@code jdbc_direct_blobs} option is enabled.
+         *
+         * @return blob backed by a copy of the bytes
+         */
+        public DuckDBBlobResult copy() {
+            ByteBuffer view = getByteBuffer();
+            byte[] bytes = new byte[view.remaining()];
+            view.get(bytes);
+            return new DuckDBBlobResult(ByteBuffer.wrap(bytes));
+        }
+
         public void free() {
             // nop
         }
@@ -565,7 +960,26 @@ public class DuckDBResultSet implements ResultSet {
     }
 
     public InputStream getBinaryStream(int columnIndex) throws SQLException {
-        throw new SQLFeatureNotSupportedException("getBinaryStream");
+        Blob blob = getBlob(columnIndex);
+        return null == blob ? null : blob.getBinaryStream();
+    }
+
+    /**
+     * Returns the BLOB value of the current row as a read-only buffer without copying it.
+     *
+     * <p>With the {@code jdbc_direct_blobs} option the buffer points into the result memory
+     * and must not be read after the result set moves past the current chunk, use
+     * {@link #getBytes(int)} or {@link DuckDBBlobResult#copy()} to keep the bytes.
+     *
+     * @param columnIndex column index, starting from 1
+     * @return read-only view over the value bytes
+     * @throws SQLException if the column is not a BLOB column
+     */
+    public ByteBuffer getBlobBuffer(int columnIndex) throws SQLException {
+        if (checkAndNull(columnIndex)) {
+            return null;
+        }
+        return currentChunk[columnIndex - 1].getBlobBuffer(chunkIdx - 1);
     }
 
     @SuppressWarnings("deprecation")
@@ -574,7 +988,7 @@ public class DuckDBResultSet implements ResultSet {
     }
 
     public byte[] getBytes(String columnLabel) throws SQLException {
-        throw new SQLFeatureNotSupportedException("getBytes");
+        return getBytes(findColumn(columnLabel));
     }
 
     public Date getDate(String columnLabel) throws SQLException {
@@ -603,7 +1017,7 @@ public class DuckDBResultSet implements ResultSet {
     }
 
     public InputStream getBinaryStream(String columnLabel) throws SQLException {
-        throw new SQLFeatureNotSupportedException("getBinaryStream");
+        return getBinaryStream(findColumn(columnLabel));
     }
 
     public SQLWarning getWarnings() throws SQLException {
@@ -638,63 +1052,110 @@ public class DuckDBResultSet implements ResultSet {
     }
 
     public boolean isBeforeFirst() throws SQLException {
-        throw new SQLFeatureNotSupportedException("isBeforeFirst");
+        checkScrollable("isBeforeFirst");
+        return row == 0 && scrollCache.locate(1) >= 0;
     }
 
     public boolean isAfterLast() throws SQLException {
-        throw new SQLFeatureNotSupportedException("isAfterLast");
+        checkScrollable("isAfterLast");
+        return row > 0 && scrollCache.isComplete() && row > scrollCache.rowCount();
     }
 
     public boolean isFirst() throws SQLException {
-        throw new SQLFeatureNotSupportedException("isFirst");
+        checkScrollable("isFirst");
+        return row == 1;
     }
 
     public boolean isLast() throws SQLException {
-        throw new SQLFeatureNotSupportedException("isLast");
+        checkScrollable("isLast");
+        return currentChunk.length > 0 && scrollCache.locate(row + 1) < 0;
     }
 
     public void beforeFirst() throws SQLException {
-        throw new SQLFeatureNotSupportedException("beforeFirst");
+        checkScrollable("beforeFirst");
+        moveTo(0);
     }
 
     public void afterLast() throws SQLException {
-        throw new SQLFeatureNotSupportedException("afterLast");
+        checkScrollable("afterLast");
+        moveTo(scrollCache.rowCount() + 1);
     }
 
     public boolean first() throws SQLException {
-        throw new SQLFeatureNotSupportedException("first");
+        checkScrollable("first");
+        return moveTo(1);
     }
 
     public boolean last() throws SQLException {
-        throw new SQLFeatureNotSupportedException("last");
+        checkScrollable("last");
+        return moveTo(scrollCache.rowCount());
     }
 
     public int getRow() throws SQLException {
-        throw new SQLFeatureNotSupportedException("getRow");
+        checkScrollable("getRow");
+        return currentChunk.length > 0 ? row : 0;
     }
 
     public boolean absolute(int row) throws SQLException {
-        throw new SQLFeatureNotSupportedException("absolute");
+        checkScrollable("absolute");
+        if (row >= 0) {
+            return moveTo(row);
+        }
+        // negative rows count from the end, -1 is the last row
+        return moveTo(Math.max(scrollCache.rowCount() + 1 + row, 0));
     }
 
     public boolean relative(int rows) throws SQLException {
-        throw new SQLFeatureNotSupportedException("relative");
+        checkScrollable("relative");
+        if (currentChunk.length == 0) {
+            throw new SQLException("No row in context");
+        }
+        return moveTo((int) Math.max(Math.min((long) row + rows, Integer.MAX_VALUE), 0));
     }
 
     public boolean previous() throws SQLException {
-        throw new SQLFeatureNotSupportedException("previous");
+        checkScrollable("previous");
+        return moveTo(Math.max(row - 1, 0));
     }
 
     public void setFetchDirection(int direction) throws SQLException {
         checkOpen();
-        if (direction != ResultSet.FETCH_FORWARD && direction != ResultSet.FETCH_UNKNOWN) {
+        if (direction != ResultSet.FETCH_FORWARD && direction != ResultSet.FETCH_UNKNOWN &&
+            (null == scrollCache || direction != ResultSet.FETCH_REVERSE)) {
             throw new SQLFeatureNotSupportedException("setFetchDirection");
         }
+        if (null != scrollCache) {
+            fetchDirection = direction;
+        }
     }
 
     public int getFetchDirection() throws SQLException {
         checkOpen();
-        return ResultSet.FETCH_FORWARD;
+        return fetchDirection;
+    }
+
+    private void checkScrollable(String method) throws SQLException {
+        checkOpen();
+        if (null == scrollCache) {
+            throw new SQLFeatureNotSupportedException(method);
+        }
+    }
+
+    // Positions the cursor of a scrollable result set on the row, rows outside of the
+    // result set place it before the first or after the last row
+    private boolean moveTo(int target) throws SQLException {
+        checkOpen();
+        int chunkNo = scrollCache.locate(target);
+        if (chunkNo < 0) {
+            row = target < 1 ? 0 : scrollCache.rowCount() + 1;
+            currentChunk = new DuckDBVector[0];
+            chunkIdx = 0;
+            return false;
+        }
+        currentChunk = scrollCache.chunk(chunkNo);
+        chunkIdx = target - scrollCache.chunkStart(chunkNo) + 1;
+        row = target;
+        return true;
     }
 
     public void setFetchSize(int rows) throws SQLException {
@@ -702,16 +1163,17 @@ public class DuckDBResultSet implements ResultSet {
         if (rows < 0) {
             throw new SQLException("Fetch size has to be >= 0");
         }
+        this.fetchSize = rows;
     }
 
     public int getFetchSize() throws SQLException {
         checkOpen();
-        return DuckDBNative.duckdb_jdbc_fetch_size();
+        return fetchSize > 0 ? fetchSize : DuckDBNative.duckdb_jdbc_fetch_size();
     }
 
     public int getType() throws SQLException {
         checkOpen();
-        return ResultSet.TYPE_FORWARD_ONLY;
+        return null == scrollCache ? ResultSet.TYPE_FORWARD_ONLY : ResultSet.TYPE_SCROLL_INSENSITIVE;
     }
 
     public int getConcurrency() throws SQLException {
@@ -930,6 +1392,51 @@ public class DuckDBResultSet implements ResultSet {
         return currentChunk[columnIndex - 1].getArray(chunkIdx - 1);
     }
 
+    /**
+     * Reads the LIST or ARRAY value of the current row into a primitive array
+     * without creating element objects.
+     *
+     * @param columnIndex column index, starting from 1
+     * @return elements of the FLOAT list, NULL elements are returned as {@code NaN}
+     * @throws SQLException if the column is not a list of FLOAT values
+     */
+    public float[] getFloatArray(int columnIndex) throws SQLException {
+        if (checkAndNull(columnIndex)) {
+            return null;
+        }
+        return currentChunk[columnIndex - 1].getFloatArray(chunkIdx - 1);
+    }
+
+    /**
+     * Reads the LIST or ARRAY value of the current row into a primitive array
+     * without creating element objects.
+     *
+     * @param columnIndex column index, starting from 1
+     * @return elements of the DOUBLE or FLOAT list, NULL elements are returned as {@code NaN}
+     * @throws SQLException if the column is not a list of DOUBLE or FLOAT values
+     */
+    public double[] getDoubleArray(int columnIndex) throws SQLException {
+        if (checkAndNull(columnIndex)) {
+            return null;
+        }
+        return currentChunk[columnIndex - 1].getDoubleArray(chunkIdx - 1);
+    }
+
+    /**
+     * Reads the LIST or ARRAY value of the current row into a primitive array
+     * without creating element objects.
+     *
+     * @param columnIndex column index, starting from 1
+     * @return elements of the integer or TIMESTAMP list, NULL elements are returned as {@code 0}
+     * @throws SQLException if the column is not a list of values that can be read as long
+     */
+    public long[] getLongArray(int columnIndex) throws SQLException {
+        if (checkAndNull(columnIndex)) {
+            return null;
+        }
+        return currentChunk[columnIndex - 1].getLongArray(chunkIdx - 1);
+    }
+
     public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
         throw new SQLFeatureNotSupportedException("getObject");
     }
@@ -1204,12 +1711,6 @@ public class DuckDBResultSet implements ResultSet {
         throw new SQLFeatureNotSupportedException("updateNClob");
     }
 
-    private boolean isTimestamp(DuckDBColumnType sqlType) {
-        return (sqlType == DuckDBColumnType.TIMESTAMP || sqlType == DuckDBColumnType.TIMESTAMP_WITH_TIME_ZONE ||
-                sqlType == DuckDBColumnType.TIMESTAMP_S || sqlType == DuckDBColumnType.TIMESTAMP_MS ||
-                sqlType == DuckDBColumnType.TIMESTAMP_NS);
-    }
-
     public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
         checkOpen();
 
@@ -1296,7 +1797,7 @@ public class DuckDBResultSet implements ResultSet {
                 throw new SQLException("Can't convert value to Integer, Java type: " + type + ", SQL type: " + sqlType);
             }
         } else if (type == Long.class) {
-            if (sqlType == DuckDBColumnType.BIGINT || isTimestamp(sqlType)) {
+            if (sqlType == DuckDBColumnType.BIGINT || DuckDBVector.isTimestamp(sqlType)) {
                 return type.cast(getLong(columnIndex));
             } else if (sqlType == DuckDBColumnType.INTEGER) {
                 return type.cast((long) getInt(columnIndex));
@@ -1347,7 +1848,7 @@ public class DuckDBResultSet implements ResultSet {
                                        ", SQL type: " + sqlType);
             }
         } else if (type == Timestamp.class) {
-            if (isTimestamp(sqlType)) {
+            if (DuckDBVector.isTimestamp(sqlType)) {
                 return type.cast(getTimestamp(columnIndex));
             } else {
                 throw new SQLException("Can't convert value to Timestamp, Java type: " + type +
@@ -1365,7 +1866,7 @@ public class DuckDBResultSet implements ResultSet {
                                        ", SQL type: " + sqlType);
             }
         } else if (type == LocalDateTime.class) {
-            if (isTimestamp(sqlType) || sqlType == DuckDBColumnType.DATE) {
+            if (DuckDBVector.isTimestamp(sqlType) || sqlType == DuckDBColumnType.DATE) {
                 return type.cast(getLocalDateTime(columnIndex));
             } else {
                 throw new SQLException("Can't convert value to LocalDateTime, Java type: " + type +
@@ -1454,6 +1955,9 @@ public class DuckDBResultSet implements ResultSet {
     }
 
     private DuckDBVector[] fetchChunk() throws SQLException {
+        if (null != prefetchQueue) {
+            return takePrefetchedChunk();
+        }
         // Take both result set and connection locks for fetching,
         // connection lock must be taken first because concurrent
         // rs#close() call can be initiated from conn#close()
@@ -1464,7 +1968,97 @@ public class DuckDBResultSet implements ResultSet {
             resultRefLock.lock();
             try {
                 checkOpen();
-                return DuckDBNative.duckdb_jdbc_fetch(resultRef, conn.connRef);
+                releaseChunk();
+                return DuckDBNative.duckdb_jdbc_fetch(resultRef, conn.connRef, fetchSize);
+            } finally {
+                resultRefLock.unlock();
+            }
+        } catch (SQLException e) {
+            close();
+            throw e;
+        } finally {
+            conn.connRefLock.unlock();
+        }
+    }
+
+    // Struct views handed out for the current chunk must stay readable after its native memory is freed
+    private void releaseChunk() {
+        for (DuckDBVector vector : currentChunk) {
+            vector.release();
+        }
+    }
+
+    private DuckDBVector[] takePrefetchedChunk() throws SQLException {
+        checkOpen();
+        if (null == prefetchTask) {
+            prefetchTask = DuckDBDriver.prefetchExecutor.submit(this::prefetchChunks);
+        }
+        Object item;
+        try {
+            while (null == (item = prefetchQueue.poll(PREFETCH_POLL_MILLIS, TimeUnit.MILLISECONDS))) {
+                checkOpen();
+                if (prefetchTask.isDone()) {
+                    // the task enqueues its last item before it completes
+                    item = prefetchQueue.poll();
+                    if (null == item) {
+                        close();
+                        throw new SQLException("Prefetch task stopped before the end of the result");
+                    }
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for the next chunk", e);
+        }
+        if (item instanceof SQLException) {
+            close();
+            throw new SQLException("Error fetching result chunk", (SQLException) item);
+        }
+        return (DuckDBVector[]) item;
+    }
+
+    private void prefetchChunks() {
+        Object item;
+        do {
+            try {
+                item = fetchRetainedChunk();
+            } catch (SQLException e) {
+                item = e;
+            } catch (Throwable e) {
+                item = new SQLException("Error fetching result chunk", e);
+            }
+            if (null == resultRef) {
+                // closed, the consumer stops waiting when it sees the result closed
+                return;
+            }
+            try {
+                prefetchQueue.put(item);
+            } catch (InterruptedException e) {
+                return;
+            }
+        } while (item instanceof DuckDBVector[] && ((DuckDBVector[]) item).length > 0);
+    }
+
+    // Fetches the chunks of a scrollable result set, materialized results are read by the chunk
+    // number, streaming results can only be read in order
+    private DuckDBVector[] fetchScrollChunk(int chunkNo) throws SQLException {
+        conn.connRefLock.lock();
+        try {
+            conn.checkOpen();
+            resultRefLock.lock();
+            try {
+                checkOpen();
+                DuckDBVector[] chunk = null;
+                if (scrollRandomAccess) {
+                    chunk = DuckDBNative.duckdb_jdbc_fetch_chunk_at(resultRef, conn.connRef, chunkNo);
+                    scrollRandomAccess = null != chunk;
+                }
+                if (null == chunk) {
+                    chunk = DuckDBNative.duckdb_jdbc_fetch(resultRef, conn.connRef, 0);
+                }
+                retainChunk(chunk);
+                return chunk;
             } finally {
                 resultRefLock.unlock();
             }
@@ -1475,4 +2069,37 @@ public class DuckDBResultSet implements ResultSet {
             conn.connRefLock.unlock();
         }
     }
+
+    // Copies all data of the chunk to the heap while the native chunk is still alive, strings
+    // are built on access from the retained vectors, only the columns that getString can't
+    // format in Java are cast natively before the chunk is released
+    private void retainChunk(DuckDBVector[] chunk) throws SQLException {
+        for (int i = 0; i < chunk.length; i++) {
+            if (isCastToStrings(meta.column_types[i]) && !chunk[i].canCastToString()) {
+                chunk[i].string_data = DuckDBNative.duckdb_jdbc_cast_result_to_strings(resultRef, conn.connRef, i);
+            }
+            chunk[i].retain();
+        }
+    }
+
+    // Fetches the chunk in the prefetch task, all data is copied from the native
+    // chunk before the locks are released, because the native chunk is freed
+    // on the next fetch while the consumer can still be reading the current one.
+    private DuckDBVector[] fetchRetainedChunk() throws SQLException {
+        conn.connRefLock.lock();
+        try {
+            conn.checkOpen();
+            resultRefLock.lock();
+            try {
+                checkOpen();
+                DuckDBVector[] chunk = DuckDBNative.duckdb_jdbc_fetch(resultRef, conn.connRef, fetchSize);
+                retainChunk(chunk);
+                return chunk;
+            } finally {
+                resultRefLock.unlock();
+            }
+        } finally {
+            conn.connRefLock.unlock();
+        }
+    }
 }
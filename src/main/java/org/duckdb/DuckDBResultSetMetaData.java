@@ -12,6 +12,7 @@ import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.UUID;
 
@@ -99,6 +100,10 @@ public class DuckDBResultSetMetaData implements ResultSetMetaData {
     protected DuckDBColumnTypeMetaData[] column_types_meta;
     protected final StatementReturnType return_type;
     protected ParameterMetaData param_meta;
+    // built on the first label lookup
+    private volatile DuckDBLabelIndex label_index;
+    // bindings of the classes the rows were mapped to, see DuckDBResultSet#mapTo
+    private HashMap<Class<?>, DuckDBRowMapper<?>> row_mappers;
 
     public StatementReturnType getReturnType() {
         return return_type;
@@ -119,6 +124,32 @@ public class DuckDBResultSetMetaData implements ResultSetMetaData {
         return column_names[column - 1];
     }
 
+    /**
+     * @param columnLabel column label, compared ignoring case
+     * @return 1-based index of the first column with the label, {@code 0} if there is none
+     */
+    int findColumn(String columnLabel) {
+        DuckDBLabelIndex index = label_index;
+        if (null == index) {
+            index = new DuckDBLabelIndex(column_names, true);
+            label_index = index;
+        }
+        return index.indexOf(columnLabel) + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    synchronized <T> DuckDBRowMapper<T> rowMapper(Class<T> type) throws SQLException {
+        if (null == row_mappers) {
+            row_mappers = new HashMap<>();
+        }
+        DuckDBRowMapper<?> mapper = row_mappers.get(type);
+        if (null == mapper) {
+            mapper = DuckDBBeanMapper.compile(type, this);
+            row_mappers.put(type, mapper);
+        }
+        return (DuckDBRowMapper<T>) mapper;
+    }
+
     public static int type_to_int(DuckDBColumnType type) {
         switch (type) {
         case BOOLEAN:
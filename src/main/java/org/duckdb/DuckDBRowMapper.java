@@ -0,0 +1,17 @@
+package org.duckdb;
+
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface DuckDBRowMapper<T> {
+    /**
+     * Creates an object from the current row of the result set.
+     *
+     * <p>The mapper must not move the cursor of the result set.
+     *
+     * @param rs result set positioned on the row to map
+     * @return object created from the row
+     * @throws SQLException when the row cannot be read or mapped
+     */
+    T map(DuckDBResultSet rs) throws SQLException;
+}
@@ -0,0 +1,157 @@
+package org.duckdb;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Chunks of a scroll-insensitive result set, indexed by their position in the result.
+ *
+ * <p>Chunks are fetched in order the first time the rows are reached and kept as retained
+ * (heap) copies. When the estimated size of the kept chunks exceeds the limit, the least
+ * recently used ones are dropped and fetched again by their index when they are needed.
+ * Only materialized results support this; the collection backing them is managed by the
+ * DuckDB buffer manager, that offloads it to the temporary directory under memory pressure.
+ * Chunks of streaming results cannot be fetched again and have to fit into the limit.
+ */
+final class DuckDBScrollCache {
+
+    interface ChunkSource {
+        /**
+         * @return retained vectors of the chunk, an empty array past the last chunk
+         */
+        DuckDBVector[] fetchChunk(int chunkNo) throws SQLException;
+
+        /**
+         * @return {@code true} if {@link #fetchChunk(int)} accepts any chunk number, otherwise
+         *         chunks can only be fetched once and in order
+         */
+        boolean isRandomAccess();
+    }
+
+    private final ChunkSource source;
+    private final long limitBytes;
+
+    // first row number (1-based) and row count of every chunk seen so far
+    private int[] chunkStarts = new int[16];
+    private int[] chunkSizes = new int[16];
+    private long[] chunkBytes = new long[16];
+    private int chunkCount = 0;
+    private int rowCount = 0;
+    private boolean complete = false;
+
+    // access-ordered, the eldest entry is the least recently used chunk
+    private final LinkedHashMap<Integer, DuckDBVector[]> cached = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes = 0;
+
+    DuckDBScrollCache(ChunkSource source, long limitBytes) {
+        this.source = source;
+        this.limitBytes = limitBytes;
+    }
+
+    /**
+     * Fetches the chunks up to the one containing the row.
+     *
+     * @param row row number, starting from 1
+     * @return number of the chunk that contains the row, {@code -1} if the result has fewer rows
+     */
+    int locate(int row) throws SQLException {
+        if (row < 1) {
+            return -1;
+        }
+        while (row > rowCount) {
+            if (complete) {
+                return -1;
+            }
+            fetchNext();
+        }
+        int pos = Arrays.binarySearch(chunkStarts, 0, chunkCount, row);
+        return pos >= 0 ? pos : -pos - 2;
+    }
+
+    /**
+     * @return number of rows in the result, fetches all remaining chunks
+     */
+    int rowCount() throws SQLException {
+        while (!complete) {
+            fetchNext();
+        }
+        return rowCount;
+    }
+
+    /**
+     * @return {@code true} if all chunks were fetched and the number of rows is known
+     */
+    boolean isComplete() {
+        return complete;
+    }
+
+    int chunkStart(int chunkNo) {
+        return chunkStarts[chunkNo];
+    }
+
+    DuckDBVector[] chunk(int chunkNo) throws SQLException {
+        DuckDBVector[] chunk = cached.get(chunkNo);
+        if (null == chunk) {
+            // only chunks of random access sources are dropped
+            chunk = source.fetchChunk(chunkNo);
+            if (chunk.length == 0 || chunk[0].length != chunkSizes[chunkNo]) {
+                throw new SQLException("Result chunk " + chunkNo + " changed after it was dropped from the cache");
+            }
+            cache(chunkNo, chunk);
+        }
+        return chunk;
+    }
+
+    void clear() {
+        cached.clear();
+        cachedBytes = 0;
+    }
+
+    private void fetchNext() throws SQLException {
+        DuckDBVector[] chunk = source.fetchChunk(chunkCount);
+        if (chunk.length == 0) {
+            complete = true;
+            return;
+        }
+        int size = chunk[0].length;
+        if (size > Integer.MAX_VALUE - rowCount) {
+            throw new SQLException("Scrollable result set exceeds the maximum number of rows");
+        }
+        if (chunkCount == chunkStarts.length) {
+            chunkStarts = Arrays.copyOf(chunkStarts, chunkCount * 2);
+            chunkSizes = Arrays.copyOf(chunkSizes, chunkCount * 2);
+            chunkBytes = Arrays.copyOf(chunkBytes, chunkCount * 2);
+        }
+        long bytes = 0;
+        for (DuckDBVector vector : chunk) {
+            bytes += vector.estimatedSize();
+        }
+        chunkStarts[chunkCount] = rowCount + 1;
+        chunkSizes[chunkCount] = size;
+        chunkBytes[chunkCount] = bytes;
+        rowCount += size;
+        chunkCount++;
+        cache(chunkCount - 1, chunk);
+    }
+
+    private void cache(int chunkNo, DuckDBVector[] chunk) throws SQLException {
+        cached.put(chunkNo, chunk);
+        cachedBytes += chunkBytes[chunkNo];
+        // the chunk that was just added is kept even if it is larger than the limit
+        Iterator<Map.Entry<Integer, DuckDBVector[]>> it = cached.entrySet().iterator();
+        while (cachedBytes > limitBytes && cached.size() > 1) {
+            if (!source.isRandomAccess()) {
+                throw new SQLException("Scrollable result set exceeds the cache limit of " + limitBytes
+                                       + " bytes, streaming results cannot be scrolled beyond it; disable '"
+                                       + DuckDBDriver.JDBC_STREAM_RESULTS + "' or increase '"
+                                       + DuckDBDriver.JDBC_SCROLL_CACHE_MB + "'");
+            }
+            Map.Entry<Integer, DuckDBVector[]> eldest = it.next();
+            cachedBytes -= chunkBytes[eldest.getKey()];
+            it.remove();
+        }
+    }
+}
@@ -6,22 +6,21 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class DuckDBStruct implements Struct {
-    private final Object[] attributes;
     private final String[] keys;
+    private final DuckDBLabelIndex keyIndex;
     private final DuckDBVector[] values;
     private final int offset;
     private final String typeName;
+    // attributes are read from the child vectors on first access
+    private Object[] attributes;
+    private boolean[] decoded;
 
-    DuckDBStruct(String[] keys, DuckDBVector[] values, int offset, String typeName) throws SQLException {
+    DuckDBStruct(String[] keys, DuckDBLabelIndex keyIndex, DuckDBVector[] values, int offset, String typeName) {
         this.keys = keys;
+        this.keyIndex = keyIndex;
         this.values = values;
         this.offset = offset;
         this.typeName = typeName;
-
-        attributes = new Object[this.keys.length];
-        for (int i = 0; i < this.keys.length; i++) {
-            attributes[i] = this.values[i].getObject(this.offset);
-        }
     }
 
     @Override
@@ -31,9 +30,49 @@ public class DuckDBStruct implements Struct {
 
     @Override
     public Object[] getAttributes() throws SQLException {
+        for (int i = 0; i < keys.length; i++) {
+            getAttribute(i);
+        }
         return attributes;
     }
 
+    /**
+     * Returns a single attribute of the struct without reading the other ones.
+     *
+     * @param index zero-based index of the attribute
+     * @return attribute value
+     * @throws SQLException if the attribute cannot be read
+     */
+    public Object getAttribute(int index) throws SQLException {
+        if (index < 0 || index >= keys.length) {
+            throw new SQLException("Struct attribute index out of bounds: " + index);
+        }
+        if (null == attributes) {
+            attributes = new Object[keys.length];
+            decoded = new boolean[keys.length];
+        }
+        if (!decoded[index]) {
+            attributes[index] = values[index].getObject(offset);
+            decoded[index] = true;
+        }
+        return attributes[index];
+    }
+
+    /**
+     * Returns a single attribute of the struct without reading the other ones.
+     *
+     * @param name name of the attribute
+     * @return attribute value
+     * @throws SQLException if the struct does not have an attribute with the specified name
+     */
+    public Object getAttribute(String name) throws SQLException {
+        int index = keyIndex.indexOf(name);
+        if (index < 0) {
+            throw new SQLException("Struct attribute not found: " + name);
+        }
+        return getAttribute(index);
+    }
+
     @Override
     public Object[] getAttributes(Map<String, Class<?>> map) throws SQLException {
         return getAttributes();
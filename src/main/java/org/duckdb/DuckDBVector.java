@@ -1,5 +1,6 @@
 package org.duckdb;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.temporal.ChronoUnit.*;
 import static org.duckdb.DuckDBTimestamp.*;
 
@@ -40,30 +41,215 @@ class DuckDBVector {
                                 .appendLiteral(")")
                                 .toFormatter())
             .toFormatter();
+    // Layout of the string_t struct, strings up to 12 bytes are stored inline after the length
+    private final static int STRING_T_SIZE = 16;
+    private final static int STRING_T_INLINE_LENGTH = 12;
+    // Layout of the list_entry_t struct: offset and length
+    private final static int LIST_ENTRY_SIZE = 16;
+    private final static char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    private final static long MICROS_PER_DAY = 86_400_000_000L;
+    // Timestamp.valueOf resolves offsets with java.util.TimeZone, which only agrees with the
+    // java.time zone rules from 1900 (local mean time before) to 2036 (no rules after 2037),
+    // timestamps outside of these days are not converted arithmetically
+    private final static long TIMESTAMP_FAST_SECONDS_MIN = -2_208_902_400L;
+    private final static long TIMESTAMP_FAST_SECONDS_MAX = 2_114_294_400L;
 
     private final DuckDBColumnTypeMetaData meta;
     protected final DuckDBColumnType duckdb_type;
     final int length;
-    private final boolean[] nullmask;
+    // Validity bitmask, 64 rows per entry with a cleared bit for NULL,
+    // null when the vector does not contain any NULLs
+    private final long[] validity;
     private ByteBuffer constlen_data = null;
     private Object[] varlen_data = null;
+    // Set instead of varlen_data when 'jdbc_lazy_strings' (VARCHAR) or 'jdbc_direct_blobs' (BLOB)
+    // is enabled, points to the string_t entries of the native vector and is only valid until
+    // the next chunk is fetched
+    private ByteBuffer lazy_string_data = null;
+    // CONSTANT vectors hold a single value for all rows, DICTIONARY vectors hold the dictionary
+    // entries and a selection with the entry of every row; the data and the validity mask
+    // then describe the stored entries instead of the rows
+    private boolean constant = false;
+    private int[] selection = null;
+    // ENUM values are transferred as indexes into the dictionary of the resolved type
+    private final String[] enum_dictionary;
+    private final int enum_index_width;
+    // STRUCT and UNION cells are created on access as views over the child vectors
+    private final String struct_type_name;
+    private final String[] struct_keys;
+    private final DuckDBLabelIndex struct_key_index;
+    // offsets of the default time zone for TIMESTAMP columns, shared by the chunks of the result
+    private final DuckDBZoneOffsets zone_offsets;
+    private DuckDBVector[] struct_values = null;
+    // LIST, MAP and ARRAY cells are created on access as views over the child vector, the
+    // list entries (offset and length) are stored in constlen_data, ARRAY cells have a fixed size
+    private DuckDBVector list_child = null;
+    private int array_size = 0;
+    // VARIANT values are grouped by their type, every group is stored in one (retained) vector;
+    // the tag of a row selects the group (-1 for a NULL value), the position the row in it
+    private DuckDBVector[] variant_values = null;
+    private int[] variant_tags = null;
+    private int[] variant_positions = null;
+    private boolean views_created = false;
+    private boolean released = false;
     String[] string_data = null;
+    private boolean retained = false;
 
-    DuckDBVector(String duckdb_type, int length, boolean[] nullmask) {
+    DuckDBVector(ResolvedType type, int length, long[] validity) {
         super();
-        this.duckdb_type = DuckDBResultSetMetaData.TypeNameToType(duckdb_type);
-        this.meta = this.duckdb_type == DuckDBColumnType.DECIMAL
-                        ? DuckDBColumnTypeMetaData.parseColumnTypeMetadata(duckdb_type)
-                        : null;
+        this.duckdb_type = type.columnType;
+        this.meta = type.meta;
+        this.enum_dictionary = type.enumDictionary;
+        this.enum_index_width = type.enumIndexWidth;
+        this.struct_type_name = type.structTypeName;
+        this.struct_keys = type.structKeys;
+        this.struct_key_index = type.structKeyIndex;
+        this.zone_offsets = type.zoneOffsets;
         this.length = length;
-        this.nullmask = nullmask;
+        this.validity = validity;
+    }
+
+    /**
+     * Column type parsed from the native type name. Instances are created once per
+     * vector position when the first chunk of a result is fetched and then shared
+     * by the vectors of all following chunks.
+     */
+    static final class ResolvedType {
+        final String typeName;
+        final DuckDBColumnType columnType;
+        final DuckDBColumnTypeMetaData meta;
+        final String structTypeName;
+        final String[] structKeys;
+        final DuckDBLabelIndex structKeyIndex;
+        final DuckDBZoneOffsets zoneOffsets;
+        final String[] enumDictionary;
+        final int enumIndexWidth;
+
+        ResolvedType(String typeName, String structTypeName, String[] structKeys, String[] enumDictionary,
+                     int enumIndexWidth) {
+            this.typeName = typeName;
+            this.columnType = DuckDBResultSetMetaData.TypeNameToType(typeName);
+            this.meta = columnType == DuckDBColumnType.DECIMAL
+                            ? DuckDBColumnTypeMetaData.parseColumnTypeMetadata(typeName)
+                            : null;
+            this.structTypeName = structTypeName;
+            this.structKeys = structKeys;
+            // types are resolved once per result, the index is shared by all chunks
+            this.structKeyIndex = null != structKeys ? new DuckDBLabelIndex(structKeys, false) : null;
+            // the default time zone is read once for the result
+            this.zoneOffsets = isTimestamp(columnType) ? new DuckDBZoneOffsets(ZoneId.systemDefault()) : null;
+            this.enumDictionary = enumDictionary;
+            this.enumIndexWidth = enumIndexWidth;
+        }
     }
 
     private void retainConstlenData() {
         if (null != constlen_data) {
             byte[] constlenBytes = new byte[constlen_data.capacity()];
             constlen_data.get(constlenBytes);
-            this.constlen_data = ByteBuffer.wrap(constlenBytes);
+            this.constlen_data = ByteBuffer.wrap(constlenBytes).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    // Detaches the vector from the native chunk memory, so it stays readable after
+    // the next chunk is fetched: fixed-width data is copied to the heap, lazy
+    // strings are decoded and nested vectors are retained recursively
+    void retain() {
+        if (retained) {
+            return;
+        }
+        retained = true;
+        retainConstlenData();
+        if (null != lazy_string_data) {
+            boolean blobs = isBlobType();
+            Object[] strings = new Object[length];
+            for (int i = 0; i < length; i++) {
+                if (!check_and_null(i)) {
+                    strings[i] = blobs ? copyBlob(i) : decodeLazyString(i);
+                }
+            }
+            this.varlen_data = strings;
+            this.lazy_string_data = null;
+        }
+        if (null != struct_values) {
+            for (DuckDBVector vector : struct_values) {
+                vector.retain();
+            }
+        }
+        if (null != list_child) {
+            list_child.retain();
+        }
+        if (null != variant_values) {
+            for (DuckDBVector vector : variant_values) {
+                vector.retain();
+            }
+        }
+    }
+
+    // Rough number of heap bytes held by a retained vector, used to limit the chunks
+    // that scrollable result sets keep in memory
+    long estimatedSize() {
+        long size = 64;
+        if (null != validity) {
+            size += (long) validity.length * Long.BYTES;
+        }
+        if (null != selection) {
+            size += (long) selection.length * Integer.BYTES;
+        }
+        if (null != constlen_data) {
+            size += constlen_data.capacity();
+        }
+        if (null != varlen_data) {
+            size += (long) varlen_data.length * 8;
+            for (Object obj : varlen_data) {
+                if (obj instanceof String) {
+                    size += 40 + 2L * ((String) obj).length();
+                } else if (obj instanceof byte[]) {
+                    size += 16 + ((byte[]) obj).length;
+                }
+            }
+        }
+        if (null != string_data) {
+            for (String str : string_data) {
+                size += null == str ? 8 : 48 + 2L * str.length();
+            }
+        }
+        if (null != struct_values) {
+            for (DuckDBVector vector : struct_values) {
+                size += vector.estimatedSize();
+            }
+        }
+        if (null != list_child) {
+            size += list_child.estimatedSize();
+        }
+        if (null != variant_values) {
+            size += (long) variant_tags.length * 2 * Integer.BYTES;
+            for (DuckDBVector vector : variant_values) {
+                size += vector.estimatedSize();
+            }
+        }
+        return size;
+    }
+
+    // Called before the native chunk memory is freed: struct and list views handed out for
+    // this vector or its nested vectors read their elements on access, the data they refer
+    // to is retained so that they stay readable after the result set moves on
+    void release() {
+        if (retained || released) {
+            return;
+        }
+        released = true;
+        if (views_created) {
+            retain();
+            return;
+        }
+        if (null != struct_values) {
+            for (DuckDBVector vector : struct_values) {
+                vector.release();
+            }
+        }
+        if (null != list_child) {
+            list_child.release();
         }
     }
 
@@ -118,7 +304,7 @@ class DuckDBVector {
             return getJsonObject(idx);
         case BLOB:
         case GEOMETRY:
-            return getBlob(idx);
+            return getBlobObject(idx);
         case UUID:
             return getUuid(idx);
         case MAP:
@@ -176,7 +362,7 @@ class DuckDBVector {
 
         switch (duckdb_type) {
         case DATE: {
-            int day = getbuf(idx, 4).getInt();
+            int day = constlen_data.getInt(row(idx) * 4);
             return LocalDate.ofEpochDay(day);
         }
         case TIMESTAMP:
@@ -209,15 +395,14 @@ class DuckDBVector {
         if (isType(DuckDBColumnType.DECIMAL)) {
             switch (meta.type_size) {
             case 16:
-                return new BigDecimal((int) getbuf(idx, 2).getShort()).scaleByPowerOfTen(meta.scale * -1);
+                return new BigDecimal((int) constlen_data.getShort(row(idx) * 2)).scaleByPowerOfTen(meta.scale * -1);
             case 32:
-                return new BigDecimal(getbuf(idx, 4).getInt()).scaleByPowerOfTen(meta.scale * -1);
+                return new BigDecimal(constlen_data.getInt(row(idx) * 4)).scaleByPowerOfTen(meta.scale * -1);
             case 64:
-                return new BigDecimal(getbuf(idx, 8).getLong()).scaleByPowerOfTen(meta.scale * -1);
+                return new BigDecimal(constlen_data.getLong(row(idx) * 8)).scaleByPowerOfTen(meta.scale * -1);
             case 128:
-                ByteBuffer buf = getbuf(idx, 16);
-                long lower = buf.getLong();
-                long upper = buf.getLong();
+                long lower = constlen_data.getLong(row(idx) * 16);
+                long upper = constlen_data.getLong(row(idx) * 16 + 8);
                 return new BigDecimal(upper)
                     .multiply(ULONG_MULTIPLIER)
                     .add(new BigDecimal(Long.toUnsignedString(lower)))
@@ -240,9 +425,7 @@ class DuckDBVector {
         case TIMESTAMP_S:
         case TIMESTAMP_WITH_TIME_ZONE: {
             LocalDateTime ldt = getLocalDateTimeFromTimestamp(idx, null);
-            Instant instant = ldt.toInstant(ZoneOffset.UTC);
-            ZoneId systemZone = ZoneId.systemDefault();
-            ZoneOffset zoneOffset = systemZone.getRules().getOffset(instant);
+            ZoneOffset zoneOffset = zone_offsets.offsetAt(ldt.toEpochSecond(ZoneOffset.UTC));
             return ldt.atOffset(zoneOffset);
         }
         }
@@ -264,9 +447,8 @@ class DuckDBVector {
         }
 
         if (isType(DuckDBColumnType.UUID)) {
-            ByteBuffer buffer = getbuf(idx, 16);
-            long leastSignificantBits = buffer.getLong();
-            long mostSignificantBits = buffer.getLong();
+            long leastSignificantBits = constlen_data.getLong(row(idx) * 16);
+            long mostSignificantBits = constlen_data.getLong(row(idx) * 16 + 8);
             // Account for the following logic in UUID::FromString:
             // Flip the first bit to make `order by uuid` same as `order by uuid::varchar`
             mostSignificantBits ^= Long.MIN_VALUE;
@@ -280,7 +462,68 @@ class DuckDBVector {
         if (check_and_null(idx)) {
             return null;
         }
-        return varlen_data[idx].toString();
+        if (null != enum_dictionary) {
+            return enum_dictionary[getEnumIndex(idx)];
+        }
+        if (null != lazy_string_data) {
+            return decodeLazyString(row(idx));
+        }
+        return varlen_data[row(idx)].toString();
+    }
+
+    private int getEnumIndex(int idx) {
+        switch (enum_index_width) {
+        case 1:
+            return Byte.toUnsignedInt(constlen_data.get(row(idx)));
+        case 2:
+            return Short.toUnsignedInt(constlen_data.getShort(row(idx) * Short.BYTES));
+        default:
+            return constlen_data.getInt(row(idx) * Integer.BYTES);
+        }
+    }
+
+    private String decodeLazyString(int idx) {
+        int pos = idx * STRING_T_SIZE;
+        int len = lazy_string_data.getInt(pos);
+        if (len <= STRING_T_INLINE_LENGTH) {
+            byte[] bytes = new byte[len];
+            for (int i = 0; i < len; i++) {
+                bytes[i] = lazy_string_data.get(pos + Integer.BYTES + i);
+            }
+            return new String(bytes, UTF_8);
+        }
+        byte[] bytes = DuckDBBindings.duckdb_vector_get_string(lazy_string_data, idx);
+        return new String(bytes, UTF_8);
+    }
+
+    // Called from native code with the UTF-8 bytes of all strings of a vector, offsets holds the
+    // start of every string followed by the end of the last one, NULL entries are cleared in validity
+    @SuppressWarnings("deprecation")
+    static String[] decodeStrings(byte[] data, int[] offsets, long[] validity) {
+        String[] strings = new String[offsets.length - 1];
+        for (int i = 0; i < strings.length; i++) {
+            if (validity != null && (validity[i >> 6] & (1L << i)) == 0) {
+                continue;
+            }
+            int start = offsets[i];
+            int len = offsets[i + 1] - start;
+            if (isAscii(data, start, len)) {
+                // ASCII bytes are copied as they are into a compact (Latin-1) string
+                strings[i] = new String(data, 0, start, len);
+            } else {
+                strings[i] = new String(data, start, len, UTF_8);
+            }
+        }
+        return strings;
+    }
+
+    private static boolean isAscii(byte[] data, int start, int len) {
+        for (int i = start; i < start + len; i++) {
+            if (data[i] < 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     Array getArray(int idx) throws SQLException {
@@ -288,11 +531,70 @@ class DuckDBVector {
             return null;
         }
         if (isType(DuckDBColumnType.LIST) || isType(DuckDBColumnType.ARRAY)) {
-            return (Array) varlen_data[idx];
+            return getListView(idx);
         }
         throw new SQLFeatureNotSupportedException("getArray");
     }
 
+    private DuckDBArray getListView(int idx) {
+        views_created = true;
+        int pos = row(idx);
+        return new DuckDBArray(list_child, listOffset(pos), listLength(pos));
+    }
+
+    private int listOffset(int pos) {
+        if (isType(DuckDBColumnType.ARRAY)) {
+            return pos * array_size;
+        }
+        return (int) constlen_data.getLong(pos * LIST_ENTRY_SIZE);
+    }
+
+    private int listLength(int pos) {
+        if (isType(DuckDBColumnType.ARRAY)) {
+            return array_size;
+        }
+        return (int) constlen_data.getLong(pos * LIST_ENTRY_SIZE + Long.BYTES);
+    }
+
+    private void checkListType(String method) throws SQLException {
+        if (!isType(DuckDBColumnType.LIST) && !isType(DuckDBColumnType.ARRAY)) {
+            throw new SQLFeatureNotSupportedException(method);
+        }
+    }
+
+    float[] getFloatArray(int idx) throws SQLException {
+        if (check_and_null(idx)) {
+            return null;
+        }
+        checkListType("getFloatArray");
+        int pos = row(idx);
+        float[] dst = new float[listLength(pos)];
+        list_child.copyFloats(listOffset(pos), dst.length, dst, 0);
+        return dst;
+    }
+
+    double[] getDoubleArray(int idx) throws SQLException {
+        if (check_and_null(idx)) {
+            return null;
+        }
+        checkListType("getDoubleArray");
+        int pos = row(idx);
+        double[] dst = new double[listLength(pos)];
+        list_child.copyDoubles(listOffset(pos), dst.length, dst, 0);
+        return dst;
+    }
+
+    long[] getLongArray(int idx) throws SQLException {
+        if (check_and_null(idx)) {
+            return null;
+        }
+        checkListType("getLongArray");
+        int pos = row(idx);
+        long[] dst = new long[listLength(pos)];
+        list_child.copyLongs(listOffset(pos), dst.length, dst, 0);
+        return dst;
+    }
+
     Map<Object, Object> getMap(int idx) throws SQLException {
         if (check_and_null(idx)) {
             return null;
@@ -301,7 +603,7 @@ class DuckDBVector {
             throw new SQLFeatureNotSupportedException("getMap");
         }
 
-        Object[] entries = (Object[]) (((Array) varlen_data[idx]).getArray());
+        Object[] entries = (Object[]) getListView(idx).getArray();
         Map<Object, Object> result = new LinkedHashMap<>();
 
         for (Object entry : entries) {
@@ -316,25 +618,76 @@ class DuckDBVector {
         if (check_and_null(idx)) {
             return null;
         }
-        if (isType(DuckDBColumnType.BLOB) || isType(DuckDBColumnType.GEOMETRY)) {
-            return new DuckDBResultSet.DuckDBBlobResult(ByteBuffer.wrap((byte[]) varlen_data[idx]));
+        if (isBlobType()) {
+            return new DuckDBResultSet.DuckDBBlobResult(blobBuffer(idx));
         }
 
         throw new SQLFeatureNotSupportedException("getBlob");
     }
 
+    // Callers of getObject may keep the value after the cursor moves, direct blobs are copied
+    private Blob getBlobObject(int idx) throws SQLException {
+        if (null == lazy_string_data) {
+            return getBlob(idx);
+        }
+        return new DuckDBResultSet.DuckDBBlobResult(ByteBuffer.wrap(copyBlob(idx)));
+    }
+
+    ByteBuffer getBlobBuffer(int idx) throws SQLException {
+        if (check_and_null(idx)) {
+            return null;
+        }
+        if (isBlobType()) {
+            return blobBuffer(idx);
+        }
+
+        throw new SQLFeatureNotSupportedException("getBlobBuffer");
+    }
+
     byte[] getBytes(int idx) throws SQLException {
         if (check_and_null(idx)) {
             return null;
         }
 
-        if (isType(DuckDBColumnType.BLOB) || isType(DuckDBColumnType.GEOMETRY)) {
-            return (byte[]) varlen_data[idx];
+        if (isBlobType()) {
+            if (null != lazy_string_data) {
+                return copyBlob(idx);
+            }
+            return (byte[]) varlen_data[row(idx)];
         }
 
         throw new SQLFeatureNotSupportedException("getBytes");
     }
 
+    private boolean isBlobType() {
+        return isType(DuckDBColumnType.BLOB) || isType(DuckDBColumnType.GEOMETRY);
+    }
+
+    // Read-only view over the blob bytes, with direct blobs the view points into the
+    // native chunk memory and must not be read after the next chunk is fetched
+    private ByteBuffer blobBuffer(int idx) {
+        if (null == lazy_string_data) {
+            return ByteBuffer.wrap((byte[]) varlen_data[row(idx)]).asReadOnlyBuffer();
+        }
+        int pos = row(idx);
+        int start = pos * STRING_T_SIZE;
+        int len = lazy_string_data.getInt(start);
+        if (len <= STRING_T_INLINE_LENGTH) {
+            ByteBuffer inlined = lazy_string_data.duplicate();
+            inlined.position(start + Integer.BYTES);
+            inlined.limit(start + Integer.BYTES + len);
+            return inlined.slice().asReadOnlyBuffer();
+        }
+        return DuckDBBindings.duckdb_vector_get_string_buffer(lazy_string_data, pos).asReadOnlyBuffer();
+    }
+
+    private byte[] copyBlob(int idx) {
+        ByteBuffer view = blobBuffer(idx);
+        byte[] bytes = new byte[view.remaining()];
+        view.get(bytes);
+        return bytes;
+    }
+
     JsonNode getJsonObject(int idx) {
         if (check_and_null(idx)) {
             return null;
@@ -445,7 +798,7 @@ class DuckDBVector {
             return false;
         }
         if (isType(DuckDBColumnType.BOOLEAN)) {
-            return getbuf(idx, 1).get() == 1;
+            return constlen_data.get(row(idx)) == 1;
         }
         Object o = getObject(idx);
         if (o instanceof Number) {
@@ -455,20 +808,33 @@ class DuckDBVector {
         return Boolean.parseBoolean(o.toString());
     }
 
-    protected ByteBuffer getbuf(int idx, int typeWidth) {
-        ByteBuffer buf = constlen_data;
-        buf.order(ByteOrder.nativeOrder());
-        buf.position(idx * typeWidth);
-        return buf;
-    }
-
+    // constlen_data is always in native byte order, values are read with absolute
+    // offsets so that the buffer position is never touched on the per-cell path
     private long getLongFromConstlen(int idx) {
-        ByteBuffer buf = getbuf(idx, 8);
-        return buf.getLong();
+        return constlen_data.getLong(row(idx) * 8);
     }
 
     protected boolean check_and_null(int idx) {
-        return nullmask[idx];
+        if (validity == null) {
+            return false;
+        }
+        int pos = row(idx);
+        return (validity[pos >> 6] & (1L << pos)) == 0;
+    }
+
+    // Position of the row in the stored data
+    private int row(int idx) {
+        if (constant) {
+            return 0;
+        }
+        if (null != selection) {
+            return selection[idx];
+        }
+        return idx;
+    }
+
+    private boolean isFlat() {
+        return !constant && null == selection;
     }
 
     long getLong(int idx) throws SQLException {
@@ -477,7 +843,7 @@ class DuckDBVector {
         }
         if (isType(DuckDBColumnType.BIGINT) || isType(DuckDBColumnType.TIMESTAMP) ||
             isType(DuckDBColumnType.TIMESTAMP_WITH_TIME_ZONE)) {
-            return getbuf(idx, 8).getLong();
+            return constlen_data.getLong(row(idx) * 8);
         }
         Object o = getObject(idx);
         if (o instanceof Number) {
@@ -491,7 +857,7 @@ class DuckDBVector {
             return 0;
         }
         if (isType(DuckDBColumnType.INTEGER)) {
-            return getbuf(idx, 4).getInt();
+            return constlen_data.getInt(row(idx) * 4);
         }
         Object o = getObject(idx);
         if (o instanceof Number) {
@@ -505,7 +871,7 @@ class DuckDBVector {
             return 0;
         }
         if (isType(DuckDBColumnType.UTINYINT)) {
-            return (short) Byte.toUnsignedInt(getbuf(idx, 1).get());
+            return (short) Byte.toUnsignedInt(constlen_data.get(row(idx)));
         }
         throw new SQLFeatureNotSupportedException("getUint8");
     }
@@ -515,7 +881,7 @@ class DuckDBVector {
             return 0;
         }
         if (isType(DuckDBColumnType.UINTEGER)) {
-            return Integer.toUnsignedLong(getbuf(idx, 4).getInt());
+            return Integer.toUnsignedLong(constlen_data.getInt(row(idx) * 4));
         }
         throw new SQLFeatureNotSupportedException("getUint32");
     }
@@ -525,7 +891,7 @@ class DuckDBVector {
             return 0;
         }
         if (isType(DuckDBColumnType.USMALLINT)) {
-            return Short.toUnsignedInt(getbuf(idx, 2).getShort());
+            return Short.toUnsignedInt(constlen_data.getShort(row(idx) * 2));
         }
         throw new SQLFeatureNotSupportedException("getUint16");
     }
@@ -536,7 +902,7 @@ class DuckDBVector {
         }
         if (isType(DuckDBColumnType.UBIGINT)) {
             byte[] buf_res = new byte[8];
-            long value = getbuf(idx, 8).getLong();
+            long value = constlen_data.getLong(row(idx) * 8);
             ByteBuffer.wrap(buf_res).putLong(value);
             return new BigInteger(1, buf_res);
         }
@@ -548,7 +914,7 @@ class DuckDBVector {
             return Double.NaN;
         }
         if (isType(DuckDBColumnType.DOUBLE)) {
-            return getbuf(idx, 8).getDouble();
+            return constlen_data.getDouble(row(idx) * 8);
         }
         Object o = getObject(idx);
         if (o instanceof Number) {
@@ -562,7 +928,7 @@ class DuckDBVector {
             return 0;
         }
         if (isType(DuckDBColumnType.TINYINT)) {
-            return getbuf(idx, 1).get();
+            return constlen_data.get(row(idx));
         }
         Object o = getObject(idx);
         if (o instanceof Number) {
@@ -576,7 +942,7 @@ class DuckDBVector {
             return 0;
         }
         if (isType(DuckDBColumnType.SMALLINT)) {
-            return getbuf(idx, 2).getShort();
+            return constlen_data.getShort(row(idx) * 2);
         }
         Object o = getObject(idx);
         if (o instanceof Number) {
@@ -591,9 +957,8 @@ class DuckDBVector {
         }
         if (isType(DuckDBColumnType.HUGEINT)) {
             byte[] buf_res = new byte[16];
-            ByteBuffer buf = getbuf(idx, 16);
-            long lower = buf.getLong();
-            long upper = buf.getLong();
+            long lower = constlen_data.getLong(row(idx) * 16);
+            long upper = constlen_data.getLong(row(idx) * 16 + 8);
             ByteBuffer.wrap(buf_res).putLong(upper).putLong(lower);
             return new BigInteger(buf_res);
         }
@@ -607,9 +972,8 @@ class DuckDBVector {
         }
         if (isType(DuckDBColumnType.UHUGEINT)) {
             byte[] buf_res = new byte[16];
-            ByteBuffer buf = getbuf(idx, 16);
-            long lower = buf.getLong();
-            long upper = buf.getLong();
+            long lower = constlen_data.getLong(row(idx) * 16);
+            long upper = constlen_data.getLong(row(idx) * 16 + 8);
             ByteBuffer.wrap(buf_res).putLong(upper).putLong(lower);
             return new BigInteger(1, buf_res);
         }
@@ -622,7 +986,7 @@ class DuckDBVector {
             return Float.NaN;
         }
         if (isType(DuckDBColumnType.FLOAT)) {
-            return getbuf(idx, 4).getFloat();
+            return constlen_data.getFloat(row(idx) * 4);
         }
         Object o = getObject(idx);
         if (o instanceof Number) {
@@ -631,10 +995,188 @@ class DuckDBVector {
         return Float.parseFloat(o.toString());
     }
 
+    // Bulk copies of count rows starting at row from into dst starting at offset,
+    // NULL values are written as 0 for integer types and as NaN for floating point types
+    void copyLongs(int from, int count, long[] dst, int offset) throws SQLException {
+        switch (duckdb_type) {
+        case BIGINT:
+        case TIMESTAMP:
+        case TIMESTAMP_MS:
+        case TIMESTAMP_NS:
+        case TIMESTAMP_S:
+        case TIMESTAMP_WITH_TIME_ZONE:
+            if (isFlat()) {
+                bulkView(from, Long.BYTES).asLongBuffer().get(dst, offset, count);
+                break;
+            }
+            for (int i = 0; i < count; i++) {
+                dst[offset + i] = constlen_data.getLong(row(from + i) * 8);
+            }
+            break;
+        case INTEGER:
+            for (int i = 0; i < count; i++) {
+                dst[offset + i] = constlen_data.getInt(row(from + i) * 4);
+            }
+            break;
+        case UINTEGER:
+            for (int i = 0; i < count; i++) {
+                dst[offset + i] = Integer.toUnsignedLong(constlen_data.getInt(row(from + i) * 4));
+            }
+            break;
+        case SMALLINT:
+            for (int i = 0; i < count; i++) {
+                dst[offset + i] = constlen_data.getShort(row(from + i) * 2);
+            }
+            break;
+        case USMALLINT:
+            for (int i = 0; i < count; i++) {
+                dst[offset + i] = Short.toUnsignedInt(constlen_data.getShort(row(from + i) * 2));
+            }
+            break;
+        case TINYINT:
+            for (int i = 0; i < count; i++) {
+                dst[offset + i] = constlen_data.get(row(from + i));
+            }
+            break;
+        case UTINYINT:
+            for (int i = 0; i < count; i++) {
+                dst[offset + i] = Byte.toUnsignedInt(constlen_data.get(row(from + i)));
+            }
+            break;
+        default:
+            throw new SQLException("Cannot read column of type " + duckdb_type + " into long[]");
+        }
+        if (validity != null) {
+            for (int i = 0; i < count; i++) {
+                if (check_and_null(from + i)) {
+                    dst[offset + i] = 0;
+                }
+            }
+        }
+    }
+
+    void copyInts(int from, int count, int[] dst, int offset) throws SQLException {
+        switch (duckdb_type) {
+        case INTEGER:
+        case DATE:
+            if (isFlat()) {
+                bulkView(from, Integer.BYTES).asIntBuffer().get(dst, offset, count);
+                break;
+            }
+            for (int i = 0; i < count; i++) {
+                dst[offset + i] = constlen_data.getInt(row(from + i) * 4);
+            }
+            break;
+        case SMALLINT:
+            for (int i = 0; i < count; i++) {
+                dst[offset + i] = constlen_data.getShort(row(from + i) * 2);
+            }
+            break;
+        case USMALLINT:
+            for (int i = 0; i < count; i++) {
+                dst[offset + i] = Short.toUnsignedInt(constlen_data.getShort(row(from + i) * 2));
+            }
+            break;
+        case TINYINT:
+            for (int i = 0; i < count; i++) {
+                dst[offset + i] = constlen_data.get(row(from + i));
+            }
+            break;
+        case UTINYINT:
+            for (int i = 0; i < count; i++) {
+                dst[offset + i] = Byte.toUnsignedInt(constlen_data.get(row(from + i)));
+            }
+            break;
+        default:
+            throw new SQLException("Cannot read column of type " + duckdb_type + " into int[]");
+        }
+        if (validity != null) {
+            for (int i = 0; i < count; i++) {
+                if (check_and_null(from + i)) {
+                    dst[offset + i] = 0;
+                }
+            }
+        }
+    }
+
+    void copyDoubles(int from, int count, double[] dst, int offset) throws SQLException {
+        switch (duckdb_type) {
+        case DOUBLE:
+            if (isFlat()) {
+                bulkView(from, Double.BYTES).asDoubleBuffer().get(dst, offset, count);
+                break;
+            }
+            for (int i = 0; i < count; i++) {
+                dst[offset + i] = constlen_data.getDouble(row(from + i) * 8);
+            }
+            break;
+        case FLOAT:
+            for (int i = 0; i < count; i++) {
+                dst[offset + i] = constlen_data.getFloat(row(from + i) * 4);
+            }
+            break;
+        default:
+            throw new SQLException("Cannot read column of type " + duckdb_type + " into double[]");
+        }
+        if (validity != null) {
+            for (int i = 0; i < count; i++) {
+                if (check_and_null(from + i)) {
+                    dst[offset + i] = Double.NaN;
+                }
+            }
+        }
+    }
+
+    void copyFloats(int from, int count, float[] dst, int offset) throws SQLException {
+        if (!isType(DuckDBColumnType.FLOAT)) {
+            throw new SQLException("Cannot read column of type " + duckdb_type + " into float[]");
+        }
+        if (isFlat()) {
+            bulkView(from, Float.BYTES).asFloatBuffer().get(dst, offset, count);
+        } else {
+            for (int i = 0; i < count; i++) {
+                dst[offset + i] = constlen_data.getFloat(row(from + i) * 4);
+            }
+        }
+        if (validity != null) {
+            for (int i = 0; i < count; i++) {
+                if (check_and_null(from + i)) {
+                    dst[offset + i] = Float.NaN;
+                }
+            }
+        }
+    }
+
+    void copyNulls(int from, int count, BitSet dst, int offset) {
+        dst.clear(offset, offset + count);
+        if (validity == null) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            if (check_and_null(from + i)) {
+                dst.set(offset + i);
+            }
+        }
+    }
+
+    // Independent view for bulk reads starting at the specified row, the position
+    // of constlen_data itself is never moved
+    private ByteBuffer bulkView(int from, int width) {
+        ByteBuffer buf = constlen_data.duplicate().order(ByteOrder.nativeOrder());
+        buf.position(from * width);
+        return buf;
+    }
+
     private boolean isType(DuckDBColumnType columnType) {
         return duckdb_type == columnType;
     }
 
+    static boolean isTimestamp(DuckDBColumnType columnType) {
+        return columnType == DuckDBColumnType.TIMESTAMP || columnType == DuckDBColumnType.TIMESTAMP_WITH_TIME_ZONE ||
+            columnType == DuckDBColumnType.TIMESTAMP_S || columnType == DuckDBColumnType.TIMESTAMP_MS ||
+            columnType == DuckDBColumnType.TIMESTAMP_NS;
+    }
+
     private LocalDateTime getLocalDateTimeFromDate(int idx) throws SQLException {
         LocalDate ld = getLocalDate(idx);
         if (ld == null) {
@@ -647,6 +1189,12 @@ class DuckDBVector {
         if (check_and_null(idx)) {
             return null;
         }
+        if (null == calNullable && isTimestamp(duckdb_type)) {
+            Timestamp ts = timestampFromMicros(idx);
+            if (null != ts) {
+                return ts;
+            }
+        }
         final LocalDateTime ldt;
         if (duckdb_type == DuckDBColumnType.DATE) {
             ldt = getLocalDateTimeFromDate(idx);
@@ -695,31 +1243,470 @@ class DuckDBVector {
         case TIMESTAMP_S:
             return localDateTimeFromTimestamp(getLongFromConstlen(idx), SECONDS, zoneIdNullable);
         case TIMESTAMP_WITH_TIME_ZONE: {
+            if (null == zoneIdNullable) {
+                long micros = getLongFromConstlen(idx);
+                long seconds = Math.floorDiv(micros, 1_000_000L);
+                int nanos = (int) Math.floorMod(micros, 1_000_000L) * 1000;
+                return LocalDateTime.ofEpochSecond(seconds, nanos, zone_offsets.offsetAt(seconds));
+            }
             return localDateTimeFromTimestampWithTimezone(getLongFromConstlen(idx), MICROS, zoneIdNullable);
         }
         }
         return null;
     }
 
+    /**
+     * @return microseconds since the epoch, the wall clock time as UTC for TIMESTAMP types
+     *         without time zone; days since the epoch at midnight for DATE
+     */
+    long getEpochMicros(int idx) throws SQLException {
+        if (check_and_null(idx)) {
+            return 0;
+        }
+        try {
+            if (isType(DuckDBColumnType.DATE)) {
+                return Math.multiplyExact(constlen_data.getInt(row(idx) * 4), MICROS_PER_DAY);
+            }
+            if (isTimestamp(duckdb_type)) {
+                return timestampMicros(idx);
+            }
+        } catch (ArithmeticException e) {
+            throw new SQLException("Value of " + duckdb_type + " column is out of the range of epoch microseconds", e);
+        }
+        throw new SQLException("Can't read epoch microseconds from a column of type " + duckdb_type);
+    }
+
+    /**
+     * @return days since the epoch, of the wall clock date for TIMESTAMP types without time zone
+     *         and of the UTC date for TIMESTAMPTZ
+     */
+    int getEpochDays(int idx) throws SQLException {
+        if (check_and_null(idx)) {
+            return 0;
+        }
+        if (isType(DuckDBColumnType.DATE)) {
+            return constlen_data.getInt(row(idx) * 4);
+        }
+        return Math.toIntExact(Math.floorDiv(getEpochMicros(idx), MICROS_PER_DAY));
+    }
+
+    private long timestampMicros(int idx) {
+        long value = getLongFromConstlen(idx);
+        switch (duckdb_type) {
+        case TIMESTAMP_S:
+            return Math.multiplyExact(value, 1_000_000L);
+        case TIMESTAMP_MS:
+            return Math.multiplyExact(value, 1000L);
+        case TIMESTAMP_NS:
+            return Math.floorDiv(value, 1000L);
+        default:
+            return value;
+        }
+    }
+
+    // Timestamp of the wall clock time in the default time zone computed from the offset of the
+    // zone, null when the offset is not known without the calendar fields (near transitions,
+    // before the Gregorian calendar) and Timestamp.valueOf has to be used
+    private Timestamp timestampFromMicros(int idx) {
+        final long seconds;
+        final int nanos;
+        if (isType(DuckDBColumnType.TIMESTAMP_NS)) {
+            long value = getLongFromConstlen(idx);
+            seconds = Math.floorDiv(value, 1_000_000_000L);
+            nanos = (int) Math.floorMod(value, 1_000_000_000L);
+        } else {
+            long micros;
+            try {
+                micros = timestampMicros(idx);
+            } catch (ArithmeticException e) {
+                return null;
+            }
+            seconds = Math.floorDiv(micros, 1_000_000L);
+            nanos = (int) Math.floorMod(micros, 1_000_000L) * 1000;
+        }
+        if (seconds < TIMESTAMP_FAST_SECONDS_MIN || seconds >= TIMESTAMP_FAST_SECONDS_MAX) {
+            return null;
+        }
+        long localSeconds = seconds;
+        if (isType(DuckDBColumnType.TIMESTAMP_WITH_TIME_ZONE)) {
+            localSeconds += zone_offsets.offsetAt(seconds).getTotalSeconds();
+        }
+        ZoneOffset offset = zone_offsets.localOffset(localSeconds);
+        if (null == offset) {
+            return null;
+        }
+        Timestamp ts = new Timestamp((localSeconds - offset.getTotalSeconds()) * 1000);
+        ts.setNanos(nanos);
+        return ts;
+    }
+
     Struct getStruct(int idx) {
-        return check_and_null(idx) ? null : (Struct) varlen_data[idx];
+        if (check_and_null(idx)) {
+            return null;
+        }
+        views_created = true;
+        return new DuckDBStruct(struct_keys, struct_key_index, struct_values, row(idx), struct_type_name);
     }
 
     Object getUnion(int idx) throws SQLException {
         if (check_and_null(idx))
             return null;
 
-        Struct struct = getStruct(idx);
-
-        Object[] attributes = struct.getAttributes();
+        DuckDBStruct struct = (DuckDBStruct) getStruct(idx);
 
-        short tag = (short) attributes[0];
+        short tag = (short) struct.getAttribute(0);
 
-        return attributes[1 + tag];
+        return struct.getAttribute(1 + tag);
     }
 
     Object getVariant(int idx) throws SQLException {
-        DuckDBVector vec = (DuckDBVector) varlen_data[idx];
-        return vec.getObject(0);
+        if (check_and_null(idx)) {
+            return null;
+        }
+        int pos = row(idx);
+        int tag = variant_tags[pos];
+        if (tag < 0) {
+            return null;
+        }
+        return variant_values[tag].getObject(variant_positions[pos]);
+    }
+
+    boolean isRetained() {
+        return retained;
+    }
+
+    // Whether castToString produces the same text as the VARCHAR cast of DuckDB for all values
+    // of the vector. Floating point values, intervals, time zones, bitstrings, geometries, variants
+    // and unnamed structs are formatted by the native cast only.
+    boolean canCastToString() {
+        switch (duckdb_type) {
+        case BOOLEAN:
+        case TINYINT:
+        case SMALLINT:
+        case INTEGER:
+        case BIGINT:
+        case HUGEINT:
+        case UHUGEINT:
+        case UTINYINT:
+        case USMALLINT:
+        case UINTEGER:
+        case UBIGINT:
+        case DECIMAL:
+        case VARCHAR:
+        case JSON:
+        case ENUM:
+        case UUID:
+        case BLOB:
+        case DATE:
+        case TIME:
+        case TIME_NS:
+        case TIMESTAMP:
+        case TIMESTAMP_S:
+        case TIMESTAMP_MS:
+        case TIMESTAMP_NS:
+            return true;
+        case LIST:
+        case ARRAY:
+        case MAP:
+            return list_child.canCastToString();
+        case STRUCT:
+            if (struct_keys.length > 0 && struct_keys[0].isEmpty()) {
+                return false;
+            }
+            // fall through
+        case UNION:
+            for (DuckDBVector vector : struct_values) {
+                if (!vector.canCastToString()) {
+                    return false;
+                }
+            }
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    // Value cast to VARCHAR the same way as DuckDB does it, only for types accepted by canCastToString
+    String castToString(int idx) throws SQLException {
+        if (check_and_null(idx)) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        appendString(sb, idx);
+        return sb.toString();
+    }
+
+    private void appendString(StringBuilder sb, int idx) throws SQLException {
+        switch (duckdb_type) {
+        case BOOLEAN:
+            sb.append(getBoolean(idx).booleanValue());
+            return;
+        case TINYINT:
+        case SMALLINT:
+        case INTEGER:
+        case BIGINT:
+        case HUGEINT:
+        case UHUGEINT:
+        case UTINYINT:
+        case USMALLINT:
+        case UINTEGER:
+        case UBIGINT:
+        case UUID:
+            sb.append(getObject(idx));
+            return;
+        case DECIMAL:
+            sb.append(getBigDecimal(idx).toPlainString());
+            return;
+        case BLOB:
+            appendBlob(sb, blobBuffer(idx));
+            return;
+        case DATE:
+            appendDate(sb, constlen_data.getInt(row(idx) * 4));
+            return;
+        case TIME:
+            appendTime(sb, getLongFromConstlen(idx) * 1000);
+            return;
+        case TIME_NS:
+            appendTime(sb, getLongFromConstlen(idx));
+            return;
+        case TIMESTAMP:
+        case TIMESTAMP_S:
+        case TIMESTAMP_MS:
+        case TIMESTAMP_NS:
+            appendTimestamp(sb, getLongFromConstlen(idx));
+            return;
+        case LIST:
+        case ARRAY: {
+            int pos = row(idx);
+            int offset = listOffset(pos);
+            int len = listLength(pos);
+            // elements of arrays are not quoted by DuckDB
+            boolean escape = isType(DuckDBColumnType.LIST);
+            sb.append('[');
+            for (int i = 0; i < len; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                list_child.appendElement(sb, offset + i, escape);
+            }
+            sb.append(']');
+            return;
+        }
+        case MAP: {
+            int pos = row(idx);
+            int offset = listOffset(pos);
+            int len = listLength(pos);
+            DuckDBVector keys = list_child.struct_values[0];
+            DuckDBVector values = list_child.struct_values[1];
+            sb.append('{');
+            for (int i = 0; i < len; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                if (list_child.check_and_null(offset + i)) {
+                    sb.append("NULL");
+                    continue;
+                }
+                int entry = list_child.row(offset + i);
+                if (keys.check_and_null(entry)) {
+                    sb.append("invalid");
+                } else {
+                    keys.appendElement(sb, entry, true);
+                }
+                sb.append('=');
+                values.appendElement(sb, entry, true);
+            }
+            sb.append('}');
+            return;
+        }
+        case STRUCT: {
+            int pos = row(idx);
+            sb.append('{');
+            for (int i = 0; i < struct_values.length; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                appendEscaped(sb, struct_keys[i], true);
+                sb.append(": ");
+                struct_values[i].appendElement(sb, pos, true);
+            }
+            sb.append('}');
+            return;
+        }
+        case UNION: {
+            int pos = row(idx);
+            DuckDBVector member = struct_values[1 + struct_values[0].getUint8(pos)];
+            if (member.check_and_null(pos)) {
+                sb.append("NULL");
+            } else {
+                member.appendString(sb, pos);
+            }
+            return;
+        }
+        default:
+            // VARCHAR, JSON and ENUM
+            sb.append(getLazyString(idx));
+        }
+    }
+
+    // Element of a nested value, values of non-nested types are quoted when they would be ambiguous
+    private void appendElement(StringBuilder sb, int idx, boolean escape) throws SQLException {
+        if (check_and_null(idx)) {
+            sb.append("NULL");
+            return;
+        }
+        switch (duckdb_type) {
+        case LIST:
+        case ARRAY:
+        case MAP:
+        case STRUCT:
+        case UNION:
+            appendString(sb, idx);
+            return;
+        }
+        if (!escape) {
+            appendString(sb, idx);
+            return;
+        }
+        StringBuilder value = new StringBuilder();
+        appendString(value, idx);
+        appendEscaped(sb, value, false);
+    }
+
+    private static void appendEscaped(StringBuilder sb, CharSequence str, boolean quote) {
+        int len = str.length();
+        if (!quote) {
+            quote = len == 0 || isSpace(str.charAt(0)) || (len >= 2 && isSpace(str.charAt(len - 1))) ||
+                    "null".equalsIgnoreCase(str.toString());
+            for (int i = 0; i < len && !quote; i++) {
+                switch (str.charAt(i)) {
+                case '"':
+                case '\'':
+                case '(':
+                case ')':
+                case ',':
+                case ':':
+                case '=':
+                case '[':
+                case ']':
+                case '{':
+                case '}':
+                    quote = true;
+                }
+            }
+        }
+        if (!quote) {
+            sb.append(str);
+            return;
+        }
+        sb.append('\'');
+        for (int i = 0; i < len; i++) {
+            char c = str.charAt(i);
+            if (c == '\\' || c == '\'') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        sb.append('\'');
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000b' || c == '\f' || c == '\r';
+    }
+
+    // Printable ASCII characters are kept, all other bytes are written as \xNN
+    private static void appendBlob(StringBuilder sb, ByteBuffer blob) {
+        while (blob.hasRemaining()) {
+            int b = blob.get() & 0xff;
+            if (b >= 32 && b <= 126 && b != '\\' && b != '\'' && b != '"') {
+                sb.append((char) b);
+            } else {
+                sb.append("\\x").append(HEX_DIGITS[b >> 4]).append(HEX_DIGITS[b & 0x0f]);
+            }
+        }
+    }
+
+    private static void appendDate(StringBuilder sb, int epochDays) {
+        if (epochDays == Integer.MAX_VALUE) {
+            sb.append("infinity");
+            return;
+        }
+        if (epochDays == -Integer.MAX_VALUE) {
+            sb.append("-infinity");
+            return;
+        }
+        LocalDate date = LocalDate.ofEpochDay(epochDays);
+        int year = date.getYear();
+        boolean bc = year <= 0;
+        String yearDigits = Integer.toString(bc ? 1 - year : year);
+        for (int i = yearDigits.length(); i < 4; i++) {
+            sb.append('0');
+        }
+        sb.append(yearDigits).append('-');
+        appendTwoDigits(sb, date.getMonthValue());
+        sb.append('-');
+        appendTwoDigits(sb, date.getDayOfMonth());
+        if (bc) {
+            sb.append(" (BC)");
+        }
+    }
+
+    // HH:MM:SS followed by the fraction of the second without trailing zeros, 24:00:00 is valid
+    private static void appendTime(StringBuilder sb, long nanosOfDay) {
+        long seconds = nanosOfDay / 1_000_000_000L;
+        appendTwoDigits(sb, (int) (seconds / 3600));
+        sb.append(':');
+        appendTwoDigits(sb, (int) (seconds / 60 % 60));
+        sb.append(':');
+        appendTwoDigits(sb, (int) (seconds % 60));
+        int nanos = (int) (nanosOfDay % 1_000_000_000L);
+        if (nanos != 0) {
+            String digits = Integer.toString(nanos + 1_000_000_000);
+            int end = digits.length();
+            while (digits.charAt(end - 1) == '0') {
+                end--;
+            }
+            sb.append('.').append(digits, 1, end);
+        }
+    }
+
+    private void appendTimestamp(StringBuilder sb, long value) {
+        if (value == Long.MAX_VALUE) {
+            sb.append("infinity");
+            return;
+        }
+        if (value == -Long.MAX_VALUE) {
+            sb.append("-infinity");
+            return;
+        }
+        final long seconds;
+        final long nanos;
+        switch (duckdb_type) {
+        case TIMESTAMP_S:
+            seconds = value;
+            nanos = 0;
+            break;
+        case TIMESTAMP_MS:
+            seconds = Math.floorDiv(value, 1000L);
+            nanos = Math.floorMod(value, 1000L) * 1_000_000L;
+            break;
+        case TIMESTAMP_NS:
+            seconds = Math.floorDiv(value, 1_000_000_000L);
+            nanos = Math.floorMod(value, 1_000_000_000L);
+            break;
+        default:
+            seconds = Math.floorDiv(value, 1_000_000L);
+            nanos = Math.floorMod(value, 1_000_000L) * 1000L;
+        }
+        appendDate(sb, Math.toIntExact(Math.floorDiv(seconds, 86_400L)));
+        sb.append(' ');
+        appendTime(sb, Math.floorMod(seconds, 86_400L) * 1_000_000_000L + nanos);
+    }
+
+    private static void appendTwoDigits(StringBuilder sb, int value) {
+        if (value < 10) {
+            sb.append('0');
+        }
+        sb.append(value);
     }
 }
@@ -0,0 +1,130 @@
+package org.duckdb;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+
+/**
+ * Offsets of a time zone by epoch second.
+ *
+ * <p>Every lookup in the zone rules adds the range between the surrounding transitions to a
+ * sorted table, the following lookups within the known ranges are a binary search. The table is
+ * replaced as a whole when a range is added, so that it can be read without locking; concurrent
+ * lookups of a new range may compute it twice.
+ */
+final class DuckDBZoneOffsets {
+
+    // beyond this number of ranges (about a century of daylight saving changes) the table restarts
+    private static final int MAX_RANGES = 256;
+    private static final long TRANSITION_MARGIN = 2 * 24 * 60 * 60;
+
+    private static final class Table {
+        // [starts[i], ends[i]) is the range of epoch seconds with offsets[i], sorted by start
+        final long[] starts;
+        final long[] ends;
+        final ZoneOffset[] offsets;
+
+        Table(long[] starts, long[] ends, ZoneOffset[] offsets) {
+            this.starts = starts;
+            this.ends = ends;
+            this.offsets = offsets;
+        }
+    }
+
+    private final ZoneRules rules;
+    private volatile Table table = new Table(new long[0], new long[0], new ZoneOffset[0]);
+
+    DuckDBZoneOffsets(ZoneId zone) {
+        this.rules = zone.getRules();
+    }
+
+    /**
+     * @param epochSecond seconds since the epoch (UTC)
+     * @return offset of the zone at the instant
+     */
+    ZoneOffset offsetAt(long epochSecond) {
+        Table current = table;
+        int idx = find(current, epochSecond);
+        if (idx < 0) {
+            current = addRange(current, epochSecond);
+            idx = find(current, epochSecond);
+        }
+        return current.offsets[idx];
+    }
+
+    /**
+     * @param localSecond local date time of the zone as seconds since the epoch
+     * @return offset of the zone at the local date time, {@code null} if the local date time is
+     *         near a transition, where it may be skipped or ambiguous
+     */
+    ZoneOffset localOffset(long localSecond) {
+        ZoneOffset offset = offsetAt(localSecond);
+        long epochSecond = localSecond - offset.getTotalSeconds();
+        Table current = table;
+        int idx = find(current, epochSecond);
+        if (idx < 0) {
+            current = addRange(current, epochSecond);
+            idx = find(current, epochSecond);
+        }
+        // offsets are within 18 hours of UTC, no other instant can map to the same local date
+        // time when the range extends beyond it by more than the difference of two offsets
+        if (!offset.equals(current.offsets[idx]) || current.starts[idx] > epochSecond - TRANSITION_MARGIN ||
+            current.ends[idx] <= epochSecond + TRANSITION_MARGIN) {
+            return null;
+        }
+        return offset;
+    }
+
+    private static int find(Table current, long epochSecond) {
+        int pos = Arrays.binarySearch(current.starts, epochSecond);
+        int idx = pos >= 0 ? pos : -pos - 2;
+        return idx >= 0 && epochSecond < current.ends[idx] ? idx : -1;
+    }
+
+    private Table addRange(Table current, long epochSecond) {
+        ZoneOffset offset;
+        long start = Long.MIN_VALUE;
+        long end = Long.MAX_VALUE;
+        if (rules.isFixedOffset()) {
+            offset = rules.getOffset(Instant.EPOCH);
+        } else {
+            Instant instant = Instant.ofEpochSecond(epochSecond);
+            offset = rules.getOffset(instant);
+            // a transition exactly at the instant starts its range
+            ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(epochSecond, 1));
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+            if (null != previous) {
+                start = previous.toEpochSecond();
+            }
+            if (null != next) {
+                end = next.toEpochSecond();
+            }
+        }
+        int size = current.starts.length;
+        if (size >= MAX_RANGES) {
+            Table restarted = new Table(new long[] {start}, new long[] {end}, new ZoneOffset[] {offset});
+            table = restarted;
+            return restarted;
+        }
+        int pos = Arrays.binarySearch(current.starts, start);
+        pos = pos >= 0 ? pos : -pos - 1;
+        long[] starts = new long[size + 1];
+        long[] ends = new long[size + 1];
+        ZoneOffset[] offsets = new ZoneOffset[size + 1];
+        System.arraycopy(current.starts, 0, starts, 0, pos);
+        System.arraycopy(current.ends, 0, ends, 0, pos);
+        System.arraycopy(current.offsets, 0, offsets, 0, pos);
+        starts[pos] = start;
+        ends[pos] = end;
+        offsets[pos] = offset;
+        System.arraycopy(current.starts, pos, starts, pos + 1, size - pos);
+        System.arraycopy(current.ends, pos, ends, pos + 1, size - pos);
+        System.arraycopy(current.offsets, pos, offsets, pos + 1, size - pos);
+        Table extended = new Table(starts, ends, offsets);
+        table = extended;
+        return extended;
+    }
+}
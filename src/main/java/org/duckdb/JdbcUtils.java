@@ -62,6 +62,22 @@ final class JdbcUtils {
         throw new SQLException("Invalid boolean option value: " + val);
     }
 
+    static int parseNonNegativeInt(String val, int defaultVal) throws SQLException {
+        if (null == val) {
+            return defaultVal;
+        }
+        final int res;
+        try {
+            res = Integer.parseInt(val.trim());
+        } catch (NumberFormatException e) {
+            throw new SQLException("Invalid integer option value: " + val);
+        }
+        if (res < 0) {
+            throw new SQLException("Invalid negative option value: " + val);
+        }
+        return res;
+    }
+
     static String dbNameFromUrl(String url) throws SQLException {
         if (null == url) {
             throw new SQLException("Invalid null URL specified");
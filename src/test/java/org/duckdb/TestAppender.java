@@ -402,6 +402,7 @@ public class TestAppender {
 
             stmt.execute("CREATE TABLE tab1(col1 INTEGER, col2 VARCHAR)");
             try (DuckDBAppender appender = conn.createAppender(DuckDBConnection.DEFAULT_SCHEMA, "tab1")) {
+                appender.setFlushThresholdRows(1 << 11);
                 for (int i = 0; i < count + tail; i++) {
                     appender.beginRow().append(Integer.MAX_VALUE - i).append("foo" + i).endRow();
                 }
@@ -423,6 +424,397 @@ public class TestAppender {
         }
     }
 
+    public static void test_appender_flush_thresholds() throws Exception {
+        try (DuckDBConnection conn = DriverManager.getConnection(JDBC_URL).unwrap(DuckDBConnection.class);
+             Statement stmt = conn.createStatement()) {
+
+            int count = 1 << 12; // two full chunks
+            int tail = 16;
+
+            stmt.execute("CREATE TABLE tab1(col1 INTEGER, col2 VARCHAR)");
+            try (DuckDBAppender appender = conn.createAppender("tab1")) {
+                assertEquals(appender.getFlushThresholdRows(), 0L);
+                assertEquals(appender.getFlushThresholdBytes(), 0L);
+                assertThrows(() -> { appender.setFlushThresholdRows(-1); }, SQLException.class);
+                assertThrows(() -> { appender.setFlushThresholdBytes(-1); }, SQLException.class);
+
+                // full chunks are handed over to the native appender without flushing the table
+                for (int i = 0; i < count + tail; i++) {
+                    appender.beginRow().append(i).append("foo" + i).endRow();
+                }
+                try (ResultSet rs = stmt.executeQuery("SELECT count(*) FROM tab1")) {
+                    assertTrue(rs.next());
+                    assertEquals(rs.getLong(1), 0L);
+                }
+                assertEquals(appender.flush(), (long) (count + tail));
+                assertEquals(appender.flush(), 0L);
+
+                // the first full chunk exceeds the threshold
+                appender.setFlushThresholdBytes(1 << 10);
+                for (int i = 0; i < count; i++) {
+                    appender.beginRow().append(i).append("bar" + i).endRow();
+                }
+                try (ResultSet rs = stmt.executeQuery("SELECT count(*) FROM tab1")) {
+                    assertTrue(rs.next());
+                    assertEquals(rs.getLong(1), (long) (count * 2 + tail));
+                }
+                appender.beginRow().append(-1).append("baz").endRow();
+            }
+
+            try (ResultSet rs = stmt.executeQuery("SELECT count(*), count(DISTINCT col2) FROM tab1")) {
+                assertTrue(rs.next());
+                assertEquals(rs.getLong(1), (long) (count * 2 + tail + 1));
+                assertEquals(rs.getLong(2), (long) (count * 2 + tail + 1));
+            }
+        }
+    }
+
+    public static void test_appender_columns() throws Exception {
+        try (DuckDBConnection conn = DriverManager.getConnection(JDBC_URL).unwrap(DuckDBConnection.class);
+             Statement stmt = conn.createStatement()) {
+
+            stmt.execute("CREATE TABLE tab1(col1 BIGINT, col2 DOUBLE, col3 VARCHAR, col4 BOOLEAN, col5 DATE, "
+                         + "col6 TIMESTAMP, col7 BLOB, col8 SMALLINT)");
+            int count = 5000; // spans three chunks
+            long[] col1 = new long[count];
+            double[] col2 = new double[count];
+            String[] col3 = new String[count + 1];
+            boolean[] col4 = new boolean[count];
+            int[] col5 = new int[count];
+            long[] col6 = new long[count];
+            byte[][] col7 = new byte[count][];
+            short[] col8 = new short[count];
+            boolean[] nulls2 = new boolean[count];
+            for (int i = 0; i < count; i++) {
+                col1[i] = Long.MAX_VALUE - i;
+                col2[i] = i / 2.0;
+                col3[i] = i % 7 == 0 ? null : (i % 2 == 0 ? "s" + i : "a longer string number " + i + " \u00e9");
+                col4[i] = i % 3 == 0;
+                col5[i] = i;
+                col6[i] = i * 1000_000L;
+                col7[i] = new byte[] {(byte) i, (byte) (i >> 8)};
+                col8[i] = (short) i;
+                nulls2[i] = i % 5 == 0;
+            }
+
+            try (DuckDBAppender appender = conn.createAppender("tab1")) {
+                appender.beginRow()
+                    .append(-1L)
+                    .append(-1.0)
+                    .append("row")
+                    .append(false)
+                    .append(LocalDate.ofEpochDay(-1))
+                    .append(LocalDateTime.ofEpochSecond(-1, 0, UTC))
+                    .append(new byte[] {-1})
+                    .append((short) -1)
+                    .endRow();
+                appender.appendColumns(count, new Object[] {col1, col2, col3, col4, col5, col6, col7, col8},
+                                       new boolean[][] {null, nulls2, null, null, null, null, null, null});
+                appender.appendColumns(0, col1, col2, col3, col4, col5, col6, col7, col8);
+
+                assertThrows(() -> { appender.appendColumns(1, col1, col2); }, SQLException.class);
+                assertThrows(
+                    () -> { appender.appendColumns(1, col1, col1, col3, col4, col5, col6, col7, col8); },
+                    SQLException.class);
+                assertThrows(
+                    () -> { appender.appendColumns(count + 2, col1, col2, col3, col4, col5, col6, col7, col8); },
+                    SQLException.class);
+                appender.beginRow().append(Long.MIN_VALUE);
+                assertThrows(
+                    () -> { appender.appendColumns(1, col1, col2, col3, col4, col5, col6, col7, col8); },
+                    SQLException.class);
+                appender.append(-2.0)
+                    .appendNull()
+                    .append(true)
+                    .appendNull()
+                    .appendNull()
+                    .appendNull()
+                    .append((short) -2)
+                    .endRow();
+            }
+
+            try (ResultSet rs = stmt.executeQuery("SELECT * FROM tab1 ORDER BY col8")) {
+                assertTrue(rs.next());
+                assertEquals(rs.getLong(1), Long.MIN_VALUE);
+                assertNull(rs.getString(3));
+                assertTrue(rs.next());
+                assertEquals(rs.getString(3), "row");
+                for (int i = 0; i < count; i++) {
+                    assertTrue(rs.next());
+                    assertEquals(rs.getLong(1), col1[i]);
+                    assertEquals(rs.getObject(2), nulls2[i] ? null : col2[i]);
+                    assertEquals(rs.getString(3), col3[i]);
+                    assertEquals(rs.getBoolean(4), col4[i]);
+                    assertEquals(rs.getObject(5, LocalDate.class), LocalDate.ofEpochDay(i));
+                    assertEquals(rs.getObject(6, LocalDateTime.class), LocalDateTime.ofEpochSecond(i, 0, UTC));
+                    assertEquals(rs.getBytes(7), col7[i]);
+                    assertEquals(rs.getShort(8), (short) i);
+                }
+                assertFalse(rs.next());
+            }
+        }
+    }
+
+    public static void test_appender_long_strings() throws Exception {
+        try (DuckDBConnection conn = DriverManager.getConnection(JDBC_URL).unwrap(DuckDBConnection.class);
+             Statement stmt = conn.createStatement()) {
+
+            stmt.execute("CREATE TABLE tab1(col1 INTEGER, col2 VARCHAR, col3 BLOB, col4 VARCHAR[])");
+            int count = 5000;
+            String[] strings = new String[count];
+            byte[][] blobs = new byte[count][];
+            for (int i = 0; i < count; i++) {
+                strings[i] = i % 11 == 0 ? null
+                                         : (i % 3 == 0 ? "short" + i
+                                                       : "https://example.com/path/" + i + "?q=\u00fc\u00df" + i);
+                blobs[i] = new byte[i % 40];
+                for (int j = 0; j < blobs[i].length; j++) {
+                    blobs[i][j] = (byte) (0xff - (i + j));
+                }
+            }
+
+            try (DuckDBAppender appender = conn.createAppender("tab1")) {
+                for (int i = 0; i < count; i++) {
+                    if (i == count / 2) {
+                        appender.setWriteInlinedStrings(false);
+                    }
+                    appender.beginRow()
+                        .append(i)
+                        .append(strings[i])
+                        .append(blobs[i])
+                        .append(Arrays.asList(strings[i], strings[(i + 1) % count], "element number " + i))
+                        .endRow();
+                }
+                // bytes that are not valid UTF-8 are appended as NULL
+                appender.beginRow()
+                    .append(count)
+                    .append(new byte[] {(byte) 0xc3, (byte) 0x28, 'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j'})
+                    .append(new byte[] {(byte) 0xc3, (byte) 0x28})
+                    .appendNull()
+                    .endRow();
+            }
+
+            try (ResultSet rs = stmt.executeQuery("SELECT * FROM tab1 ORDER BY col1")) {
+                for (int i = 0; i < count; i++) {
+                    assertTrue(rs.next());
+                    assertEquals(rs.getInt(1), i);
+                    assertEquals(rs.getString(2), strings[i]);
+                    assertEquals(rs.getBytes(3), blobs[i]);
+                    Object[] list = (Object[]) rs.getArray(4).getArray();
+                    assertEquals(list.length, 3);
+                    assertEquals(list[0], strings[i]);
+                    assertEquals(list[1], strings[(i + 1) % count]);
+                    assertEquals(list[2], "element number " + i);
+                }
+                assertTrue(rs.next());
+                assertNull(rs.getString(2));
+                assertEquals(rs.getBytes(3), new byte[] {(byte) 0xc3, (byte) 0x28});
+                assertFalse(rs.next());
+            }
+        }
+    }
+
+    public static void test_parallel_appender() throws Exception {
+        try (DuckDBConnection conn = DriverManager.getConnection(JDBC_URL).unwrap(DuckDBConnection.class);
+             Statement stmt = conn.createStatement()) {
+
+            stmt.execute("CREATE TABLE tab1(col1 BIGINT PRIMARY KEY, col2 VARCHAR)");
+            int threads = 4;
+            int batches = 3;
+            int batchSize = 1000;
+            long total = (long) threads * (batches * batchSize + 1);
+
+            try (DuckDBParallelAppender appender = conn.createParallelAppender("tab1")) {
+                List<Thread> producers = new ArrayList<>();
+                List<Exception> errors = Collections.synchronizedList(new ArrayList<>());
+                for (int t = 0; t < threads; t++) {
+                    int thread = t;
+                    producers.add(new Thread(() -> {
+                        try {
+                            for (int b = 0; b < batches; b++) {
+                                long[] ids = new long[batchSize];
+                                String[] names = new String[batchSize];
+                                for (int i = 0; i < batchSize; i++) {
+                                    ids[i] = ((long) thread * batches + b) * batchSize + i;
+                                    names[i] = "thread " + thread + " row " + ids[i];
+                                }
+                                appender.appendColumns(batchSize, ids, names);
+                            }
+                            appender.appendRows(a -> a.beginRow().append(-1L - thread).appendNull().endRow());
+                        } catch (Exception e) {
+                            errors.add(e);
+                        }
+                    }));
+                }
+                for (Thread th : producers) {
+                    th.start();
+                }
+                for (Thread th : producers) {
+                    th.join();
+                }
+                assertTrue(errors.isEmpty());
+                assertEquals(appender.getThreadsCount(), threads);
+                assertEquals(appender.getAppendedRows(), total);
+                assertEquals(appender.getPendingRows(), total);
+                assertTrue(appender.getRowsPerSecond() > 0);
+
+                // rows are held in the transactions of the threads until committed
+                try (ResultSet rs = stmt.executeQuery("SELECT count(*) FROM tab1")) {
+                    assertTrue(rs.next());
+                    assertEquals(rs.getLong(1), 0L);
+                }
+                assertEquals(appender.commit(), total);
+                assertEquals(appender.commit(), 0L);
+                assertEquals(appender.getPendingRows(), 0L);
+                assertEquals(appender.getCommittedRows(), total);
+                try (ResultSet rs = stmt.executeQuery("SELECT count(*), count(DISTINCT col1), count(col2) FROM tab1")) {
+                    assertTrue(rs.next());
+                    assertEquals(rs.getLong(1), total);
+                    assertEquals(rs.getLong(2), total);
+                    assertEquals(rs.getLong(3), total - threads);
+                }
+
+                // rows reaching the limit are committed by the thread that appended them
+                appender.setMaxPendingRows(10);
+                appender.appendRows(a -> {
+                    for (long i = 0; i < 10; i++) {
+                        a.beginRow().append(-100L - i).append("limit").endRow();
+                    }
+                });
+                assertEquals(appender.getPendingRows(), 0L);
+                assertEquals(appender.getCommittedRows(), total + 10);
+                appender.setMaxPendingRows(0);
+
+                // a failing writer rolls back the rows of its own thread only
+                appender.appendRows(a -> a.beginRow().append(-400L).append("kept").endRow());
+                Thread failing = new Thread(() -> {
+                    try {
+                        appender.appendRows(a -> a.beginRow().append(-401L).append("discarded").endRow());
+                        assertThrows(() -> {
+                            appender.appendRows(a -> {
+                                a.beginRow().append(-402L);
+                                throw new SQLException("bad value");
+                            });
+                        }, SQLException.class);
+                        appender.appendRows(a -> a.beginRow().append(-403L).append("after failure").endRow());
+                    } catch (Exception e) {
+                        errors.add(e);
+                    }
+                });
+                failing.start();
+                failing.join();
+                assertTrue(errors.isEmpty());
+                assertEquals(appender.getPendingRows(), 2L);
+                assertEquals(appender.commit(), 2L);
+                try (ResultSet rs = stmt.executeQuery("SELECT list(col1 ORDER BY col1) FROM tab1 WHERE col1 <= -400")) {
+                    assertTrue(rs.next());
+                    assertEquals(rs.getString(1), "[-403, -400]");
+                }
+
+                // a failed flush rolls back the rows of all the threads
+                Thread other = new Thread(() -> {
+                    try {
+                        appender.appendRows(a -> a.beginRow().append(-200L).append("rolled back").endRow());
+                    } catch (Exception e) {
+                        errors.add(e);
+                    }
+                });
+                other.start();
+                other.join();
+                assertTrue(errors.isEmpty());
+                appender.appendRows(a -> a.beginRow().append(0L).append("duplicate").endRow());
+                assertThrows(appender::commit, SQLException.class);
+                assertEquals(appender.getPendingRows(), 0L);
+                try (ResultSet rs = stmt.executeQuery("SELECT count(*) FROM tab1 WHERE col1 = -200")) {
+                    assertTrue(rs.next());
+                    assertEquals(rs.getLong(1), 0L);
+                }
+
+                appender.appendRows(a -> a.beginRow().append(-300L).append("after rollback").endRow());
+                assertEquals(appender.getPendingRows(), 1L);
+                assertThrows(() -> { appender.setMaxPendingRows(-1); }, SQLException.class);
+            }
+
+            try (ResultSet rs = stmt.executeQuery("SELECT count(*) FROM tab1")) {
+                assertTrue(rs.next());
+                assertEquals(rs.getLong(1), total + 13);
+            }
+        }
+    }
+
+    public static void test_appender_async() throws Exception {
+        try (DuckDBConnection conn = DriverManager.getConnection(JDBC_URL).unwrap(DuckDBConnection.class);
+             Statement stmt = conn.createStatement()) {
+
+            stmt.execute("CREATE TABLE tab1(col1 INTEGER, col2 VARCHAR, col3 INTEGER DEFAULT 42)");
+            int count = 10_000;
+            try (DuckDBAppender appender = conn.createAppender("tab1")) {
+                assertFalse(appender.isAsync());
+                assertThrows(() -> { appender.setAsync(1); }, SQLException.class);
+                appender.setAsync(3);
+                assertTrue(appender.isAsync());
+                assertThrows(() -> { appender.setAsync(3); }, SQLException.class);
+
+                for (int i = 0; i < count; i++) {
+                    appender.beginRow().append(i).append("background appended row " + i);
+                    if (i % 2 == 0) {
+                        appender.appendDefault();
+                    } else {
+                        appender.append(i);
+                    }
+                    appender.endRow();
+                }
+                assertEquals(appender.flush(), (long) count);
+                appender.beginRow().append(count).appendNull().appendNull().endRow();
+            }
+
+            try (ResultSet rs = stmt.executeQuery("SELECT * FROM tab1 ORDER BY rowid")) {
+                for (int i = 0; i < count; i++) {
+                    assertTrue(rs.next());
+                    assertEquals(rs.getInt(1), i);
+                    assertEquals(rs.getString(2), "background appended row " + i);
+                    assertEquals(rs.getInt(3), i % 2 == 0 ? 42 : i);
+                }
+                assertTrue(rs.next());
+                assertEquals(rs.getInt(1), count);
+                assertNull(rs.getString(2));
+                assertFalse(rs.next());
+            }
+
+            stmt.execute("CREATE TABLE tab2(col1 INTEGER PRIMARY KEY)");
+            try (DuckDBAppender appender = conn.createAppender("tab2")) {
+                appender.beginRow().append(1).endRow();
+                assertThrows(() -> { appender.setAsync(2); }, SQLException.class);
+            }
+            try (DuckDBAppender appender = conn.createAppender("tab2")) {
+                appender.setAsync(2);
+                for (int i = 0; i < count; i++) {
+                    appender.beginRow().append(i).endRow();
+                }
+                assertThrows(appender::flush, SQLException.class);
+            }
+
+            // the native appender flushes by itself in the background task once it collected a
+            // row group, the error is thrown by the next call to endRow
+            stmt.execute("CREATE TABLE tab3(col1 INTEGER PRIMARY KEY)");
+            try (DuckDBAppender appender = conn.createAppender("tab3")) {
+                appender.setAsync(2);
+                SQLException error = null;
+                for (int i = 0; i < 1_000_000 && null == error; i++) {
+                    appender.beginRow().append(1 == i ? 0 : i);
+                    try {
+                        appender.endRow();
+                    } catch (SQLException e) {
+                        error = e;
+                    }
+                }
+                assertNotNull(error);
+                assertTrue(error.getMessage().contains("duplicate key"));
+                appender.endRow();
+            }
+        }
+    }
+
     public static void test_appender_numbers() throws Exception {
         try (DuckDBConnection conn = DriverManager.getConnection(JDBC_URL).unwrap(DuckDBConnection.class);
              Statement stmt = conn.createStatement()) {
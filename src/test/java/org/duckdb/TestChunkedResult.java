@@ -4,6 +4,9 @@ import static org.duckdb.TestDuckDBJDBC.JDBC_URL;
 import static org.duckdb.test.Assertions.*;
 
 import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 public class TestChunkedResult {
 
@@ -70,4 +73,43 @@ public class TestChunkedResult {
             }
         }
     }
+
+    public static void test_chunked_result_stream() throws Exception {
+        long count = (1 << 16) + 7;
+        try (DuckDBConnection conn = DriverManager.getConnection(JDBC_URL).unwrap(DuckDBConnection.class);
+             DuckDBPreparedStatement ps = conn.prepare("SELECT num::BIGINT FROM range(" + count + ") t(num)")) {
+            try (DuckDBChunkedResult res = ps.query()) {
+                assertTrue(res.nextChunk());
+                DuckDBDataChunkReader first = res.chunk();
+                // the stream continues with the next chunk and leaves the current one untouched
+                long sum = res.stream()
+                               .parallel()
+                               .mapToLong(chunk -> {
+                                   DuckDBReadableVector vec = chunk.vector(0);
+                                   return chunk.stream().map(row -> vec.getLong(row)).sum();
+                               })
+                               .sum();
+                assertEquals(sum, (count - 1) * count / 2 - 2047L * 2048L / 2);
+                assertEquals(first.vector(0).getLong(2047), 2047L);
+                assertFalse(res.nextChunk());
+            }
+
+            List<DuckDBDataChunkReader> chunks = Collections.synchronizedList(new ArrayList<>());
+            try (DuckDBChunkedResult res = ps.query()) {
+                assertEquals(res.stream().peek(chunks::add).count(), count / 2048 + 1);
+                // chunks are destroyed once they were consumed
+                for (DuckDBDataChunkReader chunk : chunks) {
+                    assertTrue(chunk.isClosed());
+                }
+            }
+
+            // chunks split off but not consumed by a short-circuiting stream are destroyed on close
+            try (DuckDBChunkedResult res = ps.query()) {
+                assertTrue(res.stream().parallel().peek(chunks::add).anyMatch(chunk -> chunk.rowCount() > 0));
+            }
+            for (DuckDBDataChunkReader chunk : chunks) {
+                assertTrue(chunk.isClosed());
+            }
+        }
+    }
 }
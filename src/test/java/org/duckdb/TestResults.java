@@ -1,16 +1,33 @@
 package org.duckdb;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.duckdb.DuckDBDriver.JDBC_DIRECT_BLOBS;
+import static org.duckdb.DuckDBDriver.JDBC_LAZY_STRINGS;
+import static org.duckdb.DuckDBDriver.JDBC_PREFETCH_CHUNKS;
+import static org.duckdb.DuckDBDriver.JDBC_SCROLL_CACHE_MB;
 import static org.duckdb.DuckDBDriver.JDBC_STREAM_RESULTS;
 import static org.duckdb.TestDuckDBJDBC.JDBC_URL;
 import static org.duckdb.test.Assertions.*;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class TestResults {
 
@@ -258,6 +275,880 @@ public class TestResults {
         }
     }
 
+    public static void test_lazy_strings() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(JDBC_LAZY_STRINGS, String.valueOf(true));
+
+        try (Connection conn = DriverManager.getConnection(JDBC_URL, props); Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT CASE WHEN i % 3 = 0 THEN NULL"
+                                              + " WHEN i % 3 = 1 THEN 'short_' || i"
+                                              + " ELSE 'a long string that is not inlined ' || i"
+                                              + " || ' \u00e4\u00f6\u00fc' END,"
+                                              + " INTERVAL (i) DAY"
+                                              + " FROM range(5000) t(i)")) {
+            int row = 0;
+            while (rs.next()) {
+                String str = rs.getString(1);
+                switch (row % 3) {
+                case 0:
+                    assertNull(str);
+                    assertTrue(rs.wasNull());
+                    break;
+                case 1:
+                    assertEquals(str, "short_" + row);
+                    assertEquals(rs.getObject(1), str);
+                    break;
+                default:
+                    assertEquals(str, "a long string that is not inlined " + row + " \u00e4\u00f6\u00fc");
+                    assertEquals(rs.getObject(1), str);
+                }
+                assertNotNull(rs.getString(2));
+                row++;
+            }
+            assertEquals(row, 5000);
+        }
+
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement()) {
+            stmt.execute("SET jdbc_lazy_strings = true");
+            try (ResultSet rs = stmt.executeQuery("SELECT '', 'inlined_str', 'not_inlined_str', NULL::VARCHAR")) {
+                assertTrue(rs.next());
+                assertEquals(rs.getString(1), "");
+                assertEquals(rs.getString(2), "inlined_str");
+                assertEquals(rs.getString(3), "not_inlined_str");
+                assertNull(rs.getString(4));
+            }
+        }
+    }
+
+    public static void test_primitive_getters() throws Exception {
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT i::TINYINT, i::SMALLINT, i::INTEGER, i::BIGINT, i::FLOAT,"
+                                              + " i::DOUBLE, i % 2 = 0, i::HUGEINT, i::DECIMAL(18,2)"
+                                              + " FROM (SELECT (range % 100)::INTEGER AS i FROM range(5000))")) {
+            int row = 0;
+            while (rs.next()) {
+                int expected = row % 100;
+                // read columns out of order and repeatedly, values must not depend on the access order
+                assertEquals(rs.getDouble(6), (double) expected);
+                assertEquals(rs.getLong(4), (long) expected);
+                assertEquals(rs.getByte(1), (byte) expected);
+                assertEquals(rs.getInt(3), expected);
+                assertEquals(rs.getShort(2), (short) expected);
+                assertEquals(rs.getFloat(5), (float) expected);
+                assertEquals(rs.getBoolean(7), expected % 2 == 0);
+                assertEquals(rs.getLong(4), (long) expected);
+                assertEquals(rs.getObject(8), BigInteger.valueOf(expected));
+                assertEquals(rs.getBigDecimal(9), BigDecimal.valueOf(expected * 100L, 2));
+                assertEquals(rs.getInt(1), expected);
+                row++;
+            }
+            assertEquals(row, 5000);
+        }
+    }
+
+    public static void test_validity_mask() throws Exception {
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT i, CASE WHEN i % 7 = 0 THEN NULL ELSE i END,"
+                                              + " CASE WHEN i > 4000 THEN NULL ELSE i END,"
+                                              + " [CASE WHEN i % 2 = 0 THEN NULL ELSE i END],"
+                                              + " {'a': CASE WHEN i % 3 = 0 THEN NULL ELSE i END}"
+                                              + " FROM range(5000) t(i)")) {
+            int row = 0;
+            while (rs.next()) {
+                assertEquals(rs.getLong(1), (long) row);
+                assertFalse(rs.wasNull());
+
+                long val = rs.getLong(2);
+                assertEquals(rs.wasNull(), row % 7 == 0);
+                assertEquals(val, row % 7 == 0 ? 0L : (long) row);
+
+                assertEquals(rs.getObject(3), row > 4000 ? null : (long) row);
+                assertEquals(rs.wasNull(), row > 4000);
+
+                Object[] arr = (Object[]) rs.getArray(4).getArray();
+                assertEquals(arr[0], row % 2 == 0 ? null : (long) row);
+
+                Object[] attrs = ((Struct) rs.getObject(5)).getAttributes();
+                assertEquals(attrs[0], row % 3 == 0 ? null : (long) row);
+                row++;
+            }
+            assertEquals(row, 5000);
+        }
+    }
+
+    public static void test_read_column_chunks() throws Exception {
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement();
+             DuckDBResultSet rs = stmt.executeQuery("SELECT i, CASE WHEN i % 5 = 0 THEN NULL ELSE i::INTEGER END,"
+                                                    + " i::DOUBLE, i::FLOAT, 'foo'"
+                                                    + " FROM range(10000) t(i)")
+                                      .unwrap(DuckDBResultSet.class)) {
+            assertEquals(rs.getChunkRowCount(), 0);
+            assertThrows(() -> { rs.readLongColumn(1, new long[0], 0); }, SQLException.class);
+
+            long[] longs = new long[10000];
+            int[] ints = new int[10000];
+            double[] doubles = new double[10000];
+            float[] floats = new float[10000];
+            BitSet nulls = new BitSet();
+            int total = 0;
+            while (rs.nextChunk()) {
+                int count = rs.getChunkRowCount();
+                assertTrue(count > 0);
+                assertEquals(rs.readLongColumn(1, longs, total), count);
+                assertEquals(rs.readIntColumn(2, ints, total), count);
+                assertEquals(rs.readNullMask(2, nulls, total), count);
+                assertEquals(rs.readDoubleColumn(3, doubles, total), count);
+                assertEquals(rs.readFloatColumn(4, floats, total), count);
+                // cursor is on the first row of the chunk
+                assertEquals(rs.getLong(1), (long) total);
+                total += count;
+            }
+            assertEquals(total, 10000);
+            assertFalse(rs.next());
+
+            for (int i = 0; i < total; i++) {
+                assertEquals(longs[i], (long) i);
+                assertEquals(nulls.get(i), i % 5 == 0);
+                assertEquals(ints[i], i % 5 == 0 ? 0 : i);
+                assertEquals(doubles[i], (double) i);
+                assertEquals(floats[i], (float) i);
+            }
+        }
+
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement();
+             DuckDBResultSet rs =
+                 stmt.executeQuery("SELECT i::SMALLINT, i::DOUBLE, 'foo' FROM range(100) t(i)")
+                     .unwrap(DuckDBResultSet.class)) {
+            assertTrue(rs.next());
+            long[] longs = new long[100];
+            assertEquals(rs.readLongColumn(1, longs, 0), 100);
+            assertEquals(longs[99], 99L);
+            assertThrows(() -> { rs.readLongColumn(1, new long[99], 0); }, SQLException.class);
+            assertThrows(() -> { rs.readLongColumn(1, longs, 1); }, SQLException.class);
+            assertThrows(() -> { rs.readLongColumn(2, longs, 0); }, SQLException.class);
+            assertThrows(() -> { rs.readFloatColumn(2, new float[100], 0); }, SQLException.class);
+            assertThrows(() -> { rs.readIntColumn(3, new int[100], 0); }, SQLException.class);
+            assertFalse(rs.nextChunk());
+            assertFalse(rs.next());
+        }
+    }
+
+    public static void test_prefetch_chunks() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(JDBC_PREFETCH_CHUNKS, String.valueOf(2));
+        props.setProperty(JDBC_STREAM_RESULTS, String.valueOf(true));
+        props.setProperty(JDBC_LAZY_STRINGS, String.valueOf(true));
+
+        String query = "SELECT i, 'long string value number ' || i, [i, NULL], {'a': i}, i::VARCHAR::BLOB"
+                       + " FROM range(20000) t(i)";
+        try (Connection conn = DriverManager.getConnection(JDBC_URL, props);
+             DuckDBPreparedStatement stmt = conn.createStatement().unwrap(DuckDBPreparedStatement.class)) {
+            assertEquals(stmt.getPrefetchChunks(), 2);
+            try (ResultSet rs = stmt.executeQuery(query)) {
+                int row = 0;
+                while (rs.next()) {
+                    assertEquals(rs.getLong(1), (long) row);
+                    assertEquals(rs.getString(2), "long string value number " + row);
+                    assertEquals(rs.getString(3), "[" + row + ", NULL]");
+                    Object[] arr = (Object[]) rs.getArray(3).getArray();
+                    assertEquals(arr[0], (long) row);
+                    assertNull(arr[1]);
+                    assertEquals(rs.getString(4), "{'a': " + row + "}");
+                    assertEquals(new String(rs.getBytes(5)), String.valueOf(row));
+                    row++;
+                }
+                assertEquals(row, 20000);
+            }
+
+            // closing the result before it is exhausted must stop the prefetch task
+            for (int i = 0; i < 10; i++) {
+                try (ResultSet rs = stmt.executeQuery(query)) {
+                    assertTrue(rs.next());
+                    assertEquals(rs.getLong(1), 0L);
+                }
+            }
+
+            stmt.setPrefetchChunks(0);
+            try (ResultSet rs = stmt.executeQuery("SELECT count(*) FROM range(20000)")) {
+                assertTrue(rs.next());
+                assertEquals(rs.getLong(1), 20000L);
+            }
+            assertThrows(() -> { stmt.setPrefetchChunks(-1); }, SQLException.class);
+        }
+
+        Properties invalidProps = new Properties();
+        invalidProps.setProperty(JDBC_PREFETCH_CHUNKS, "foo");
+        assertThrows(() -> { DriverManager.getConnection(JDBC_URL, invalidProps); }, SQLException.class);
+    }
+
+    public static void test_prefetch_close_while_waiting() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(JDBC_PREFETCH_CHUNKS, String.valueOf(1));
+        props.setProperty(JDBC_STREAM_RESULTS, String.valueOf(true));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (Connection conn = DriverManager.getConnection(JDBC_URL, props); Statement stmt = conn.createStatement()) {
+            for (int i = 0; i < 5; i++) {
+                ResultSet rs = stmt.executeQuery("SELECT md5(md5(i::VARCHAR)) FROM range(10000000) t(i)");
+                Future<?> reader = executor.submit(() -> {
+                    while (rs.next()) {
+                    }
+                    return null;
+                });
+                Thread.sleep(50);
+                rs.close();
+                // the consumer waiting for a prefetched chunk must return or fail, not hang
+                try {
+                    reader.get(10, TimeUnit.SECONDS);
+                } catch (java.util.concurrent.ExecutionException e) {
+                    assertTrue(e.getCause() instanceof SQLException);
+                }
+                assertTrue(rs.isClosed());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<String> readStrings(ResultSet rs) throws Exception {
+        List<String> strings = new ArrayList<>();
+        int columns = rs.getMetaData().getColumnCount();
+        while (rs.next()) {
+            for (int col = 1; col <= columns; col++) {
+                strings.add(rs.getString(col));
+            }
+        }
+        return strings;
+    }
+
+    public static void test_retained_chunk_strings() throws Exception {
+        // strings of retained chunks are built in Java, they must match the strings cast by DuckDB
+        String query = "SELECT [i, NULL], ['', 'null', 'NuLl', ' a', 'b ', 'x', 'it''s', 'a,b', 'back\\slash', 'k=v',"
+                       + " '\t', 'é ', 'q\"', NULL], {'a': i, 'b c': 'x:y', 'it''s': NULL::VARCHAR, 'd': [1, 2]},"
+                       + " MAP {'k' || i: [i], 'n': NULL}, [i, i + 1]::INTEGER[2], ['a b', 'c,d', NULL]::VARCHAR[3],"
+                       + " ('\\xAA\\x00ab''\"\\x5C' || i)::BLOB, [[(i % 1000)::DECIMAL(4, 1), -0.5]],"
+                       + " [(i * 1000003)::DECIMAL(38, 10)],"
+                       + " [DATE '2020-01-01' + i::INTEGER, DATE '0001-01-01' - i::INTEGER, 'infinity'::DATE],"
+                       + " [TIMESTAMP '2020-01-01 00:00:00' + i * INTERVAL '1001 milliseconds',"
+                       + " TIMESTAMP '1500-01-01 10:11:12.5', TIMESTAMP '0044-03-15 12:00:00' - i * INTERVAL '1 day',"
+                       + " '-infinity'::TIMESTAMP],"
+                       + " [TIMESTAMP_NS '2020-01-01 00:00:00.123456789' + i * INTERVAL '1 microsecond',"
+                       + " TIMESTAMP_NS '1960-01-01 00:00:00.000000100'], [TIMESTAMP_MS '2001-02-03 04:05:06.7'],"
+                       + " [TIMESTAMP_S '1999-12-31 23:59:59'],"
+                       + " [TIME '12:34:56.7', TIME '24:00:00', TIME '00:00:00.000001'],"
+                       + " [TIME_NS '12:00:00.000000001'], [TIMESTAMP '294247-01-10 04:00:54.775806'],"
+                       + " [TIMESTAMP '290309-12-22 (BC) 00:00:00', '-infinity'::DATE], [DATE '5881580-07-10'],"
+                       + " {'u': md5(i::VARCHAR)::UUID, 'b': i % 2 = 0, 'h': i::HUGEINT * -100000000000000000,"
+                       + " 'uh': 340282366920938463463374607431768211455::UHUGEINT, 'ut': (i % 256)::UTINYINT,"
+                       + " 'ub': 18446744073709551615::UBIGINT},"
+                       + " union_value(k := 'a,b' || i)::UNION(k VARCHAR, n INTEGER),"
+                       + " [union_value(n := i)::UNION(k VARCHAR, n INTEGER), NULL], [i::VARCHAR::JSON],"
+                       // types formatted by the native cast only
+                       + " [1.5::DOUBLE, i / 7], row(i, 'a'),"
+                       + " [TIMESTAMPTZ '2020-01-01 00:00:00+00' + i * INTERVAL '1 hour']"
+                       + " FROM range(3000) t(i)";
+        List<String> expected;
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(query)) {
+            expected = readStrings(rs);
+        }
+
+        Properties props = new Properties();
+        props.setProperty(JDBC_PREFETCH_CHUNKS, "2");
+        try (Connection conn = DriverManager.getConnection(JDBC_URL, props); Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(query)) {
+            assertListsEqual(readStrings(rs), expected);
+        }
+
+        try (Connection conn = DriverManager.getConnection(JDBC_URL);
+             Statement stmt = conn.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+             ResultSet rs = stmt.executeQuery(query)) {
+            assertListsEqual(readStrings(rs), expected);
+            assertTrue(rs.first());
+            assertEquals(rs.getString(2), "['', 'null', 'NuLl', ' a', 'b ', x, 'it\\'s', 'a,b', back\\slash, 'k=v',"
+                                              + " '\t', 'é ', 'q\"', NULL]");
+        }
+    }
+
+    public static void test_fetch_size() throws Exception {
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement()) {
+            assertEquals(stmt.getFetchSize(), 2048);
+            assertThrows(() -> { stmt.setFetchSize(-1); }, SQLException.class);
+            stmt.setFetchSize(10000);
+            assertEquals(stmt.getFetchSize(), 10000);
+
+            try (DuckDBResultSet rs = stmt.executeQuery("SELECT i, i::VARCHAR, [i] FROM range(100000) t(i)")
+                                          .unwrap(DuckDBResultSet.class)) {
+                assertEquals(rs.getFetchSize(), 10000);
+                long total = 0;
+                assertTrue(rs.nextChunk());
+                assertTrue(rs.getChunkRowCount() >= 10000);
+                rs.setFetchSize(0);
+                assertEquals(rs.getFetchSize(), 2048);
+                do {
+                    for (int i = 0; i < rs.getChunkRowCount(); i++) {
+                        if (i > 0) {
+                            assertTrue(rs.next());
+                        }
+                        assertEquals(rs.getLong(1), total);
+                        assertEquals(rs.getString(2), String.valueOf(total));
+                        assertEquals(((Object[]) rs.getArray(3).getArray())[0], total);
+                        total++;
+                    }
+                } while (rs.nextChunk());
+                assertEquals(total, 100000L);
+            }
+
+            stmt.setFetchSize(1000000);
+            try (ResultSet rs = stmt.executeQuery("SELECT i FROM range(100000) t(i)")) {
+                long total = 0;
+                while (rs.next()) {
+                    assertEquals(rs.getLong(1), total);
+                    total++;
+                }
+                assertEquals(total, 100000L);
+            }
+
+            // the fetch size is a hint, the rows are not allocated up front
+            stmt.setFetchSize(Integer.MAX_VALUE);
+            try (DuckDBResultSet rs = stmt.executeQuery("SELECT i, i::VARCHAR, [i], {'a': i} FROM range(5000) t(i)")
+                                          .unwrap(DuckDBResultSet.class)) {
+                assertTrue(rs.nextChunk());
+                assertEquals(rs.getChunkRowCount(), 5000);
+                for (int i = 0; i < 5000; i++) {
+                    if (i > 0) {
+                        assertTrue(rs.next());
+                    }
+                    assertEquals(rs.getString(2), String.valueOf(i));
+                    assertEquals(rs.getString(4), "{'a': " + i + "}");
+                }
+                assertFalse(rs.next());
+            }
+        }
+    }
+
+    public static void test_resolved_types_across_chunks() throws Exception {
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT (i / 100)::DECIMAL(10,2) AS d, "
+                                              + "{'a': (i / 1000)::DECIMAL(18,3), 'b': [i::DECIMAL(6,1)]} AS s, "
+                                              + "CASE WHEN i % 2 = 0 THEN i::VARIANT ELSE i::VARCHAR::VARIANT END AS v "
+                                              + "FROM range(5000) t(i)")) {
+            long count = 0;
+            while (rs.next()) {
+                assertEquals(rs.getBigDecimal(1), BigDecimal.valueOf(count, 2));
+                Struct struct = (Struct) rs.getObject(2);
+                Object[] attributes = struct.getAttributes();
+                assertEquals(attributes[0], BigDecimal.valueOf(count, 3));
+                Object[] list = (Object[]) ((Array) attributes[1]).getArray();
+                assertEquals(list[0], BigDecimal.valueOf(count * 10, 1));
+                Object variant = rs.getObject(3);
+                assertEquals(variant, count % 2 == 0 ? (Object) count : (Object) String.valueOf(count));
+                count++;
+            }
+            assertEquals(count, 5000L);
+        }
+    }
+
+    public static void test_enum_dictionary() throws Exception {
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TYPE status AS ENUM ('new', 'active', 'done')");
+            try (ResultSet rs = stmt.executeQuery("SELECT CASE WHEN i % 4 = 3 THEN NULL ELSE (['new', 'active', "
+                                                  + "'done'])[i % 4 + 1]::status END, [(['new', 'done'])[i % 2 + 1]"
+                                                  + "::status] FROM range(5000) t(i)")) {
+                String[] values = new String[] {"new", "active", "done"};
+                String[] first = new String[3];
+                long count = 0;
+                while (rs.next()) {
+                    int pos = (int) (count % 4);
+                    String value = rs.getString(1);
+                    if (pos == 3) {
+                        assertNull(value);
+                        assertTrue(rs.wasNull());
+                    } else {
+                        assertEquals(value, values[pos]);
+                        assertEquals(rs.getObject(1), values[pos]);
+                        // all rows of the result share the dictionary entries
+                        if (first[pos] == null) {
+                            first[pos] = value;
+                        }
+                        assertTrue(first[pos] == value);
+                    }
+                    Object[] list = (Object[]) rs.getArray(2).getArray();
+                    assertEquals(list[0], count % 2 == 0 ? "new" : "done");
+                    count++;
+                }
+                assertEquals(count, 5000L);
+            }
+        }
+    }
+
+    public static void test_constant_and_dictionary_vectors() throws Exception {
+        for (boolean streaming : new boolean[] {false, true}) {
+            Properties props = new Properties();
+            props.setProperty(JDBC_STREAM_RESULTS, String.valueOf(streaming));
+            try (Connection conn = DriverManager.getConnection(JDBC_URL, props);
+                 Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE dict_tbl AS SELECT i, 'value_' || (i % 3) AS s, (i % 3)::INTEGER AS n "
+                             + "FROM range(5000) t(i)");
+                try (DuckDBResultSet rs = stmt.executeQuery("SELECT 42 AS c, NULL::INTEGER AS cn, 'constant' AS cs, "
+                                                            + "[1, 2] AS cl, s, n, {'s': s} AS st FROM dict_tbl "
+                                                            + "ORDER BY i")
+                                              .unwrap(DuckDBResultSet.class)) {
+                    long count = 0;
+                    long[] longs = new long[4096];
+                    while (rs.nextChunk()) {
+                        int rows = rs.getChunkRowCount();
+                        BitSet nulls = new BitSet();
+                        assertEquals(rs.readLongColumn(1, longs, 0), rows);
+                        assertEquals(rs.readNullMask(2, nulls, 0), rows);
+                        assertEquals(nulls.cardinality(), rows);
+                        for (int i = 0; i < rows; i++) {
+                            if (i > 0) {
+                                assertTrue(rs.next());
+                            }
+                            assertEquals(longs[i], 42L);
+                            assertEquals(rs.getInt(1), 42);
+                            assertEquals(rs.getObject(2), null);
+                            assertEquals(rs.getString(3), "constant");
+                            assertEquals(((Object[]) rs.getArray(4).getArray())[1], 2);
+                            assertEquals(rs.getString(5), "value_" + (count % 3));
+                            assertEquals(rs.getInt(6), (int) (count % 3));
+                            assertEquals(((Struct) rs.getObject(7)).getAttributes()[0], "value_" + (count % 3));
+                            count++;
+                        }
+                    }
+                    assertEquals(count, 5000L);
+                }
+            }
+        }
+    }
+
+    public static void test_lazy_structs() throws Exception {
+        List<Struct> structs = new ArrayList<>();
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement();
+             DuckDBResultSet rs = stmt.executeQuery("SELECT {'id': i, 'name': 'name_' || i, 'tags': [i, i + 1], "
+                                                    + "'inner': {'v': i * 2}} AS s, "
+                                                    + "union_value(num := i)::UNION(num BIGINT, str VARCHAR) AS u "
+                                                    + "FROM range(5000) t(i)")
+                                      .unwrap(DuckDBResultSet.class)) {
+            long count = 0;
+            while (rs.next()) {
+                DuckDBStruct struct = (DuckDBStruct) rs.getStruct(1);
+                assertTrue(struct.getSQLTypeName().startsWith("STRUCT(id BIGINT"));
+                assertEquals(struct.getAttribute("id"), count);
+                assertEquals(rs.getObject(2), count);
+                structs.add(struct);
+                count++;
+            }
+            assertEquals(count, 5000L);
+            DuckDBStruct struct = (DuckDBStruct) structs.get(0);
+            assertThrows(() -> { struct.getAttribute("missing"); }, SQLException.class);
+            assertThrows(() -> { struct.getAttribute(4); }, SQLException.class);
+        }
+        // attributes that were not accessed before are still readable after the result set moved on
+        for (int i = 0; i < structs.size(); i++) {
+            Object[] attributes = structs.get(i).getAttributes();
+            assertEquals(attributes[0], (long) i);
+            assertEquals(attributes[1], "name_" + i);
+            assertEquals(((Object[]) ((Array) attributes[2]).getArray())[1], (long) i + 1);
+            assertEquals(((Struct) attributes[3]).getAttributes()[0], (long) i * 2);
+        }
+    }
+
+    public static void test_primitive_arrays() throws Exception {
+        List<Array> arrays = new ArrayList<>();
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement();
+             DuckDBResultSet rs = stmt.executeQuery("SELECT [i, i + 0.5, i + 1]::FLOAT[3] AS emb, "
+                                                    + "CASE WHEN i % 10 = 0 THEN NULL ELSE [i::DOUBLE, NULL] END AS l, "
+                                                    + "range(i % 5) AS r, ['a'] AS s FROM range(5000) t(i)")
+                                      .unwrap(DuckDBResultSet.class)) {
+            int count = 0;
+            while (rs.next()) {
+                float[] emb = rs.getFloatArray(1);
+                assertEquals(emb.length, 3);
+                assertEquals(emb[0], (float) count);
+                assertEquals(emb[1], count + 0.5f);
+                DuckDBArray array = (DuckDBArray) rs.getArray(1);
+                assertEquals(array.getFloatArray()[2], count + 1f);
+                assertEquals(array.getDoubleArray()[2], count + 1d);
+
+                double[] list = rs.getDoubleArray(2);
+                if (count % 10 == 0) {
+                    assertNull(list);
+                    assertTrue(rs.wasNull());
+                } else {
+                    assertEquals(list.length, 2);
+                    assertEquals(list[0], (double) count);
+                    assertTrue(Double.isNaN(list[1]));
+                }
+
+                long[] range = rs.getLongArray(3);
+                assertEquals(range.length, count % 5);
+                for (int i = 0; i < range.length; i++) {
+                    assertEquals(range[i], (long) i);
+                }
+                assertThrows(() -> { rs.getFloatArray(3); }, SQLException.class);
+                assertThrows(() -> { rs.getLongArray(4); }, SQLException.class);
+                arrays.add(array);
+                count++;
+            }
+            assertEquals(count, 5000);
+        }
+        // elements are boxed on access, after the result set moved on
+        for (int i = 0; i < arrays.size(); i++) {
+            Object[] elements = (Object[]) arrays.get(i).getArray();
+            assertEquals(elements[0], (float) i);
+            assertEquals(((DuckDBArray) arrays.get(i)).getDoubleArray()[1], i + 0.5d);
+        }
+    }
+
+    public static void test_array_slices() throws Exception {
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT range(10000) AS r, array_value(1, NULL, 3) AS a")) {
+            assertTrue(rs.next());
+            Array list = rs.getArray(1);
+            Object[] head = (Object[]) list.getArray(1, 3);
+            assertEquals(head.length, 3);
+            assertEquals(head[0], 0L);
+            assertEquals(head[2], 2L);
+            Object[] tail = (Object[]) list.getArray(9998, 5);
+            assertEquals(tail.length, 3);
+            assertEquals(tail[2], 9999L);
+            assertEquals(((Object[]) list.getArray(10001, 5)).length, 0);
+            assertThrows(() -> { list.getArray(0, 1); }, SQLException.class);
+            assertThrows(() -> { list.getArray(10002, 1); }, SQLException.class);
+            assertThrows(() -> { list.getArray(1, -1); }, SQLException.class);
+
+            try (ResultSet slice = list.getResultSet(5001, 2)) {
+                assertTrue(slice.next());
+                assertEquals(slice.getInt(1), 5001);
+                assertEquals(slice.getLong(2), 5000L);
+                assertTrue(slice.next());
+                assertEquals(slice.getInt(1), 5002);
+                assertEquals(slice.getLong(2), 5001L);
+                assertFalse(slice.next());
+            }
+
+            // slicing after the array was boxed
+            assertEquals(((Object[]) list.getArray()).length, 10000);
+            assertEquals(((Object[]) list.getArray(100, 1))[0], 99L);
+
+            Array array = rs.getArray(2);
+            Object[] middle = (Object[]) array.getArray(2, 2, new HashMap<>());
+            assertNull(middle[0]);
+            assertEquals(middle[1], 3);
+            try (ResultSet slice = array.getResultSet(2, 1)) {
+                assertTrue(slice.next());
+                assertEquals(slice.getInt(1), 2);
+                assertNull(slice.getObject(2));
+                assertTrue(slice.wasNull());
+                assertFalse(slice.next());
+            }
+        }
+    }
+
+    public static void test_direct_blobs() throws Exception {
+        String longPrefix = "a long blob payload that is not inlined ";
+        for (String prefetch : new String[] {"0", "2"}) {
+            Properties props = new Properties();
+            props.setProperty(JDBC_DIRECT_BLOBS, String.valueOf(true));
+            props.setProperty(JDBC_PREFETCH_CHUNKS, prefetch);
+            List<DuckDBResultSet.DuckDBBlobResult> copies = new ArrayList<>();
+            List<Object> objects = new ArrayList<>();
+            List<String> copiedValues = new ArrayList<>();
+            try (Connection conn = DriverManager.getConnection(JDBC_URL, props); Statement stmt = conn.createStatement();
+                 DuckDBResultSet rs = stmt.executeQuery("SELECT CASE WHEN i % 3 = 0 THEN NULL"
+                                                        + " WHEN i % 3 = 1 THEN encode('short_' || i)"
+                                                        + " ELSE encode('" + longPrefix + "' || i) END"
+                                                        + " FROM range(5000) t(i)")
+                                          .unwrap(DuckDBResultSet.class)) {
+                int row = 0;
+                while (rs.next()) {
+                    String expected = row % 3 == 1 ? "short_" + row : longPrefix + row;
+                    if (row % 3 == 0) {
+                        assertNull(rs.getBlobBuffer(1));
+                        assertNull(rs.getBlob(1));
+                        assertNull(rs.getBinaryStream(1));
+                        row++;
+                        continue;
+                    }
+                    ByteBuffer view = rs.getBlobBuffer(1);
+                    assertTrue(view.isReadOnly());
+                    byte[] viewBytes = new byte[view.remaining()];
+                    view.get(viewBytes);
+                    assertEquals(new String(viewBytes, UTF_8), expected);
+                    assertEquals(new String(rs.getBytes(1), UTF_8), expected);
+
+                    DuckDBResultSet.DuckDBBlobResult blob = (DuckDBResultSet.DuckDBBlobResult) rs.getBlob(1);
+                    assertEquals(blob.length(), (long) expected.length());
+                    assertEquals(new String(blob.getBytes(1, (int) blob.length()), UTF_8), expected);
+                    try (InputStream is = rs.getBinaryStream(1)) {
+                        byte[] streamBytes = new byte[expected.length() + 1];
+                        assertEquals(is.read(streamBytes), expected.length());
+                    }
+                    if (row % 100 == 2) {
+                        copies.add(blob.copy());
+                        // generic callers may keep the value, it is copied
+                        objects.add(rs.getObject(1));
+                        copiedValues.add(expected);
+                    }
+                    row++;
+                }
+                assertEquals(row, 5000);
+            }
+            for (int i = 0; i < copies.size(); i++) {
+                ByteBuffer bytes = copies.get(i).getByteBuffer();
+                byte[] copied = new byte[bytes.remaining()];
+                bytes.get(copied);
+                assertEquals(new String(copied, UTF_8), copiedValues.get(i));
+                Blob object = (Blob) objects.get(i);
+                assertEquals(new String(object.getBytes(1, (int) object.length()), UTF_8), copiedValues.get(i));
+            }
+        }
+    }
+
+    public static void test_bulk_string_decode() throws Exception {
+        String[] values = new String[] {"", "ascii", "\u00e4\u00f6\u00fc", "\ud83e\udd86 duck", null,
+                                        "a longer ascii string that is not inlined"};
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE strs (s VARCHAR)");
+            try (PreparedStatement ps = conn.prepareStatement("INSERT INTO strs SELECT ? || i FROM range(1000) t(i)")) {
+                for (String value : values) {
+                    ps.setString(1, value);
+                    ps.execute();
+                }
+            }
+            try (ResultSet rs = stmt.executeQuery("SELECT s, [s] FROM strs ORDER BY rowid")) {
+                int row = 0;
+                while (rs.next()) {
+                    String value = values[row / 1000];
+                    String expected = value == null ? null : value + (row % 1000);
+                    assertEquals(rs.getString(1), expected);
+                    if (expected != null) {
+                        assertEquals(((Object[]) rs.getArray(2).getArray())[0], expected);
+                    }
+                    row++;
+                }
+                assertEquals(row, values.length * 1000);
+            }
+        }
+    }
+
+    public static void test_scrollable_result_set() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(JDBC_SCROLL_CACHE_MB, "1");
+        try (Connection conn = DriverManager.getConnection(JDBC_URL, props);
+             Statement stmt = conn.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+             ResultSet rs = stmt.executeQuery("SELECT i, 'value number ' || i FROM range(100000) t(i)")) {
+            assertEquals(stmt.getResultSetType(), ResultSet.TYPE_SCROLL_INSENSITIVE);
+            assertEquals(rs.getType(), ResultSet.TYPE_SCROLL_INSENSITIVE);
+            assertTrue(rs.isBeforeFirst());
+            assertFalse(rs.previous());
+            assertEquals(rs.getRow(), 0);
+
+            assertTrue(rs.next());
+            assertTrue(rs.isFirst());
+            assertEquals(rs.getLong(1), 0L);
+
+            // chunks were dropped from the 1 MB cache and are fetched again
+            assertTrue(rs.last());
+            assertTrue(rs.isLast());
+            assertEquals(rs.getRow(), 100000);
+            assertEquals(rs.getString(2), "value number 99999");
+            assertTrue(rs.absolute(5000));
+            assertEquals(rs.getLong(1), 4999L);
+            assertTrue(rs.previous());
+            assertEquals(rs.getLong(1), 4998L);
+            assertTrue(rs.relative(-4000));
+            assertEquals(rs.getString(2), "value number 998");
+            assertTrue(rs.absolute(-2));
+            assertEquals(rs.getLong(1), 99998L);
+            assertTrue(rs.first());
+            assertEquals(rs.getLong(1), 0L);
+
+            assertFalse(rs.absolute(100001));
+            assertTrue(rs.isAfterLast());
+            assertEquals(rs.getRow(), 0);
+            assertThrows(() -> { rs.getLong(1); }, SQLException.class);
+            assertTrue(rs.previous());
+            assertEquals(rs.getLong(1), 99999L);
+            assertFalse(rs.next());
+
+            rs.beforeFirst();
+            long sum = 0;
+            while (rs.next()) {
+                sum += rs.getLong(1);
+            }
+            assertEquals(sum, 99999L * 100000L / 2);
+            rs.afterLast();
+            int count = 0;
+            while (rs.previous()) {
+                count++;
+            }
+            assertEquals(count, 100000);
+        }
+
+        try (Connection conn = DriverManager.getConnection(JDBC_URL);
+             Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery("SELECT 42")) {
+            assertEquals(rs.getType(), ResultSet.TYPE_FORWARD_ONLY);
+            assertThrows(rs::previous, SQLFeatureNotSupportedException.class);
+            assertThrows(() -> { rs.absolute(1); }, SQLFeatureNotSupportedException.class);
+        }
+    }
+
+    public static void test_scrollable_streaming_result_set() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(JDBC_STREAM_RESULTS, String.valueOf(true));
+        props.setProperty(JDBC_SCROLL_CACHE_MB, "1");
+        try (Connection conn = DriverManager.getConnection(JDBC_URL, props);
+             PreparedStatement stmt = conn.prepareStatement("SELECT i FROM range(?) t(i)",
+                                                            ResultSet.TYPE_SCROLL_INSENSITIVE,
+                                                            ResultSet.CONCUR_READ_ONLY)) {
+            stmt.setLong(1, 10000);
+            try (ResultSet rs = stmt.executeQuery()) {
+                assertTrue(rs.last());
+                assertEquals(rs.getLong(1), 9999L);
+                assertTrue(rs.absolute(10));
+                assertEquals(rs.getLong(1), 9L);
+            }
+            // streaming results cannot be fetched again once they were dropped from the cache
+            stmt.setLong(1, 10000000);
+            try (ResultSet rs = stmt.executeQuery()) {
+                assertThrows(rs::last, SQLException.class);
+            }
+        }
+    }
+
+    public static void test_find_column_labels() throws Exception {
+        StringBuilder sql = new StringBuilder("SELECT 1 AS \"Id\", 2 AS id, 3 AS \"Straße\"");
+        for (int i = 0; i < 300; i++) {
+            sql.append(", ").append(i).append(" AS col_").append(i);
+        }
+        sql.append(", {'Key': 4, 'other': 5} AS s, [10, 20] AS l");
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql.toString())) {
+            assertTrue(rs.next());
+            // duplicate labels resolve to the first column, regardless of the case
+            assertEquals(rs.findColumn("Id"), 1);
+            assertEquals(rs.findColumn("id"), 1);
+            assertEquals(rs.findColumn("ID"), 1);
+            assertEquals(rs.findColumn("STRAßE"), 3);
+            for (int i = 0; i < 300; i++) {
+                assertEquals(rs.getInt("COL_" + i), i);
+            }
+            assertThrows(() -> { rs.findColumn("missing"); }, SQLException.class);
+            assertThrows(() -> { rs.findColumn(null); }, SQLException.class);
+
+            DuckDBStruct struct = (DuckDBStruct) rs.getObject("s");
+            assertEquals(struct.getAttribute("Key"), 4);
+            assertEquals(struct.getAttribute("other"), 5);
+            // struct attributes are matched with the case as written
+            assertThrows(() -> { struct.getAttribute("key"); }, SQLException.class);
+
+            try (ResultSet arrayRs = rs.getArray("L").getResultSet()) {
+                assertEquals(arrayRs.findColumn("index"), 1);
+                assertEquals(arrayRs.findColumn("Value"), 2);
+                assertTrue(arrayRs.next());
+                assertEquals(arrayRs.getInt("VALUE"), 10);
+                assertThrows(() -> { arrayRs.findColumn("missing"); }, SQLException.class);
+            }
+        }
+    }
+
+    public static class MappedEvent {
+        private long userId;
+        private Integer score;
+        private String name;
+        public double ratio;
+        public LocalDateTime createdAt;
+        public Object tags;
+        int setterCalls = 0;
+
+        public void setUserId(long userId) {
+            this.userId = userId;
+            setterCalls++;
+        }
+
+        public void setScore(Integer score) {
+            this.score = score;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class Unmappable {
+        public int other;
+    }
+
+    public static void test_map_rows_to_beans() throws Exception {
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement();
+             DuckDBResultSet rs = stmt.executeQuery("SELECT i AS user_id, CASE WHEN i % 2 = 0 THEN NULL ELSE i::INTEGER"
+                                                    + " END AS SCORE, i::VARCHAR AS name, i / 4 AS ratio,"
+                                                    + " TIMESTAMP '2024-01-01 00:00:00' + INTERVAL (i) SECOND AS"
+                                                    + " created_at, [i] AS tags, 'skipped' AS unused, -1 AS user_id"
+                                                    + " FROM range(5000) t(i)")
+                                      .unwrap(DuckDBResultSet.class)) {
+            assertThrows(() -> { rs.mapTo(MappedEvent.class); }, SQLException.class);
+            DuckDBRowMapper<MappedEvent> mapper = rs.rowMapper(MappedEvent.class);
+            assertTrue(mapper == rs.rowMapper(MappedEvent.class));
+            long count = 0;
+            while (rs.next()) {
+                MappedEvent event = count % 2 == 0 ? mapper.map(rs) : rs.mapTo(MappedEvent.class);
+                // the duplicate user_id label binds the first column only
+                assertEquals(event.userId, count);
+                assertEquals(event.setterCalls, 1);
+                assertEquals(event.score, count % 2 == 0 ? null : (int) count);
+                assertEquals(event.name, String.valueOf(count));
+                assertEquals(event.ratio, count / 4.0, 0.0001);
+                assertEquals(event.createdAt, LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(count));
+                assertTrue(event.tags instanceof Array);
+                count++;
+            }
+            assertEquals(count, 5000L);
+            assertThrows(() -> { rs.mapTo(MappedEvent.class); }, SQLException.class);
+            assertThrows(() -> { rs.rowMapper(Unmappable.class); }, SQLException.class);
+            assertThrows(() -> { rs.rowMapper(Runnable.class); }, SQLException.class);
+        }
+    }
+
+    public static void test_result_set_stream() throws Exception {
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement()) {
+            try (DuckDBResultSet rs = stmt.executeQuery("SELECT i AS user_id, i::VARCHAR AS name FROM range(10000) t(i)")
+                                          .unwrap(DuckDBResultSet.class)) {
+                assertTrue(rs.next());
+                assertTrue(rs.next());
+                // the stream starts after the current row
+                List<Long> ids = rs.stream(r -> r.getLong(1)).collect(Collectors.toList());
+                assertEquals(ids.size(), 9998);
+                assertEquals(ids.get(0), 2L);
+                assertEquals(ids.get(9997), 9999L);
+                assertFalse(rs.next());
+            }
+
+            DuckDBResultSet rs = stmt.executeQuery("SELECT i AS user_id, i::VARCHAR AS name FROM range(100000) t(i)")
+                                     .unwrap(DuckDBResultSet.class);
+            try (Stream<MappedEvent> events = rs.stream(rs.rowMapper(MappedEvent.class))) {
+                List<MappedEvent> mapped = events.parallel()
+                                               .filter(e -> e.userId % 3 == 0)
+                                               .collect(Collectors.toList());
+                assertEquals(mapped.size(), 33334);
+                // the encounter order is kept by the parallel stream
+                for (int i = 0; i < mapped.size(); i++) {
+                    assertEquals(mapped.get(i).userId, i * 3L);
+                    assertEquals(mapped.get(i).name, String.valueOf(i * 3L));
+                }
+            }
+            assertTrue(rs.isClosed());
+
+            try (DuckDBResultSet rs2 = stmt.executeQuery("SELECT i FROM range(100000) t(i)")
+                                           .unwrap(DuckDBResultSet.class)) {
+                assertEquals(rs2.stream(r -> r.getLong(1)).parallel().mapToLong(Long::longValue).sum(),
+                             99999L * 100000L / 2);
+            }
+        }
+    }
+
     public static void test_results_strings_cast() throws Exception {
         try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement()) {
 
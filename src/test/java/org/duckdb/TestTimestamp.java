@@ -636,4 +636,69 @@ public class TestTimestamp {
             assertFalse(rs.next());
         }
     }
+
+    public static void test_epoch_accessors() throws Exception {
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement();
+             DuckDBResultSet rs = stmt.executeQuery("SELECT '2022-08-17 12:11:10.123456'::TIMESTAMP AS ts, "
+                                                    + "'2022-08-17 12:11:10'::TIMESTAMP_S AS ts_s, "
+                                                    + "'2022-08-17 12:11:10.123'::TIMESTAMP_MS AS ts_ms, "
+                                                    + "'1969-12-31 23:59:59.999999999'::TIMESTAMP_NS AS ts_ns, "
+                                                    + "'2022-08-17 12:11:10.123456+00'::TIMESTAMPTZ AS tstz, "
+                                                    + "'1969-12-31'::DATE AS d, NULL::TIMESTAMP AS n, 42 AS i")
+                                      .unwrap(DuckDBResultSet.class)) {
+            assertTrue(rs.next());
+            long micros = LocalDateTime.of(2022, 8, 17, 12, 11, 10).toEpochSecond(ZoneOffset.UTC) * 1_000_000L;
+            assertEquals(rs.getEpochMicros(1), micros + 123456);
+            assertEquals(rs.getEpochMicros("ts_s"), micros);
+            assertEquals(rs.getEpochMicros(3), micros + 123000);
+            assertEquals(rs.getEpochMicros(4), -1L);
+            assertEquals(rs.getEpochMicros(5), micros + 123456);
+            assertEquals(rs.getEpochMicros(6), -86_400_000_000L);
+            assertEquals(rs.getEpochDays(1), (int) LocalDate.of(2022, 8, 17).toEpochDay());
+            assertEquals(rs.getEpochDays(4), -1);
+            assertEquals(rs.getEpochDays("d"), -1);
+            assertEquals(rs.getEpochMicros(7), 0L);
+            assertTrue(rs.wasNull());
+            assertEquals(rs.getEpochDays(7), 0);
+            assertTrue(rs.wasNull());
+            assertThrows(() -> { rs.getEpochMicros(8); }, SQLException.class);
+        }
+    }
+
+    public static void test_timestamps_across_zone_transitions() throws Exception {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement()) {
+            stmt.execute("SET TimeZone = 'UTC'");
+            for (String zone : new String[] {"Europe/Berlin", "America/St_Johns", "Australia/Lord_Howe", "UTC"}) {
+                TimeZone.setDefault(TimeZone.getTimeZone(zone));
+                ZoneId zoneId = ZoneId.of(zone);
+                try (ResultSet rs = stmt.executeQuery(
+                         "SELECT ts, ts::TIMESTAMPTZ, CASE WHEN ts > TIMESTAMP '1700-01-01' THEN ts::TIMESTAMP_NS END,"
+                         + " ts::TIMESTAMP_S FROM ("
+                         + "SELECT unnest(range(TIMESTAMP '2024-03-29', TIMESTAMP '2024-04-08', INTERVAL 7 MINUTE))"
+                         + " UNION ALL SELECT unnest(range(TIMESTAMP '2024-10-25', TIMESTAMP '2024-11-05', "
+                         + "INTERVAL 7 MINUTE)) UNION ALL SELECT TIMESTAMP '1500-06-01 10:00:00.5'"
+                         + " UNION ALL SELECT TIMESTAMP '1969-12-31 23:59:59.25') t(ts)")) {
+                    int count = 0;
+                    while (rs.next()) {
+                        LocalDateTime ldt = rs.getObject(1, LocalDateTime.class);
+                        // Timestamp.valueOf resolves the calendar fields, the results have to match it
+                        assertEquals(rs.getTimestamp(1), Timestamp.valueOf(ldt));
+                        // the Julian date is only available with microseconds
+                        assertEquals(rs.getTimestamp(3), ldt.getYear() < 1700 ? null : Timestamp.valueOf(ldt));
+                        assertEquals(rs.getTimestamp(4), Timestamp.valueOf(ldt.withNano(0)));
+                        Instant instant = ldt.toInstant(ZoneOffset.UTC);
+                        LocalDateTime zoned = LocalDateTime.ofInstant(instant, zoneId);
+                        assertEquals(rs.getObject(2, LocalDateTime.class), zoned);
+                        assertEquals(rs.getTimestamp(2), Timestamp.valueOf(zoned));
+                        assertEquals(rs.getObject(2, OffsetDateTime.class).toLocalDateTime(), zoned);
+                        count++;
+                    }
+                    assertEquals(count, (10 + 11) * 24 * 60 / 7 + 2 + 1);
+                }
+            }
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
 }
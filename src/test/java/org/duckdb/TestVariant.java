@@ -116,6 +116,40 @@ public class TestVariant {
         }
     }
 
+    public static void test_variant_mixed_types() throws Exception {
+        try (Connection conn = DriverManager.getConnection(JDBC_URL); Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT CASE i % 4"
+                                              + " WHEN 0 THEN i::INTEGER::VARIANT"
+                                              + " WHEN 1 THEN ('v' || i)::VARCHAR::VARIANT"
+                                              + " WHEN 2 THEN NULL::VARIANT"
+                                              + " ELSE [i, i + 1]::BIGINT[]::VARIANT END AS col1"
+                                              + " FROM range(10000) t(i)")) {
+            int row = 0;
+            while (rs.next()) {
+                Object value = rs.getObject(1);
+                switch (row % 4) {
+                case 0:
+                    assertEquals(value, row);
+                    break;
+                case 1:
+                    assertEquals(value, "v" + row);
+                    break;
+                case 2:
+                    assertNull(value);
+                    assertTrue(rs.wasNull());
+                    break;
+                default:
+                    Object[] elements = (Object[]) ((Array) value).getArray();
+                    assertEquals(elements.length, 2);
+                    assertEquals(elements[0], (long) row);
+                    assertEquals(elements[1], (long) row + 1);
+                }
+                row++;
+            }
+            assertEquals(row, 10000);
+        }
+    }
+
     public static void test_variant_query_params() throws Exception {
         try (Connection conn = DriverManager.getConnection(JDBC_URL);
              PreparedStatement ps = conn.prepareStatement("SELECT ?::VARCHAR::VARIANT AS col1"